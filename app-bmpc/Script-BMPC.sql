@@ -27,6 +27,9 @@ ADD COLUMN latitude  DECIMAL(10,7) NULL COMMENT '위도',
 ADD COLUMN longitude DECIMAL(10,7) NULL COMMENT '경도';
 */
 
+/* 가게 반경 검색용 인덱스 (위도/경도 사각형 범위 검색) */
+create index idx_store_del_lat_lon on bmpc_store(del_yn, latitude, longitude);
+
 /* 가게 파일 테이블 */
 create table bmpc_store_files(
    sf_id               	int             auto_increment      comment '파일 아이디',
@@ -43,6 +46,25 @@ create table bmpc_store_files(
    constraint store_id_fk3 foreign key(store_id) references bmpc_store(store_id) on delete cascade
 );
 
+/* 가게 검색 테이블 (가게, 카테고리, 메뉴를 펼쳐 놓은 검색 전용 테이블. 가게/메뉴/리뷰 변경 이벤트로 동기화) */
+create table bmpc_store_search(
+   store_id      	int             	not null            comment '가게 아이디',
+   store_name       varchar(255)      	not null            comment '가게명',
+   latitude         decimal(10,7)       null                comment '위도',
+   longitude        decimal(10,7)       null                comment '경도',
+   category_ids     varchar(255)        default ','         comment '카테고리 아이디 (예: ,1,3,)',
+   search_text      text                null                comment '가게명 + 메뉴명',
+   menu_yn          char(1)             default 'N'         comment '삭제되지 않은 메뉴 존재 여부: Y,N',
+   rating_avg		decimal(2,1)		default 0			comment '평균 별점(예: 4.3)',
+   review_count		int					default	0			comment '리뷰수',
+   min_price		int					default 0			comment '최소주문금액',
+   update_date  	datetime         	null                comment '가게 수정일',
+
+   primary key(store_id)
+);
+
+create index idx_store_search_lat_lon on bmpc_store_search(latitude, longitude);
+
 /* 가게 영업시간 테이블 */
 create table bmpc_store_hours(
 	sh_id               int             auto_increment      comment '영업시간 아이디',
@@ -242,12 +264,57 @@ create table bmpc_orders(
    status      		varchar(50)     not null         	comment '상태',
    addr         	varchar(255)   	not null       		comment '주소',
    addr_detail      varchar(255)   	default ''      	comment '상세주소',
+   review_request_date	datetime	null				comment '리뷰 요청 발송 일시',
    
    primary key(order_id),
    constraint user_id_fk foreign key(user_id) references bmpc_users(user_id),
    constraint store_id_fk7 foreign key(store_id) references bmpc_store(store_id)
 );
 
+/*
+ALTER TABLE bmpc_orders
+ADD COLUMN review_request_date DATETIME NULL COMMENT '리뷰 요청 발송 일시';
+
+CREATE INDEX idx_orders_status_date_store ON bmpc_orders(status, order_date, store_id);
+CREATE INDEX idx_orders_status_review_request ON bmpc_orders(status, review_request_date, order_date);
+*/
+
+/* 인기 가게 집계용 인덱스 (상태 + 주문일시 범위로 가게별 주문수 집계) */
+create index idx_orders_status_date_store on bmpc_orders(status, order_date, store_id);
+
+/* 리뷰 요청 대상 조회용 인덱스 (상태 + 미발송 + 주문일시 범위) */
+create index idx_orders_status_review_request on bmpc_orders(status, review_request_date, order_date);
+
+/* 주문 멱등키 테이블 (같은 키로 재요청된 주문은 다시 실행하지 않고 처음 주문 번호를 돌려줌) */
+create table bmpc_order_idempotency(
+   idem_id          int             auto_increment      comment '멱등키 아이디',
+   user_id          varchar(100)    not null            comment '주문한 유저아이디',
+   idem_key         varchar(100)    not null            comment '클라이언트가 보낸 Idempotency-Key',
+   order_id         int             null                comment '처리된 주문 번호',
+   request_hash     char(64)        null                comment '요청 본문 해시 (SHA-256)',
+   create_date      datetime        default now()       comment '등록일',
+
+   primary key(idem_id),
+   unique key unique_user_idem_key (user_id, idem_key)
+);
+
+/*
+ALTER TABLE bmpc_order_idempotency
+ADD COLUMN request_hash CHAR(64) NULL COMMENT '요청 본문 해시 (SHA-256)';
+*/
+
+create index idx_order_idempotency_create_date on bmpc_order_idempotency(create_date);
+
+/* 스케줄러 잠금 테이블 (여러 서버 중 한 서버만 스케줄러 작업 실행) */
+create table bmpc_scheduler_lock(
+   lock_name        varchar(64)     not null            comment '잠금 이름',
+   lock_until       datetime(3)     not null            comment '잠금 만료 시간',
+   locked_at        datetime(3)     not null            comment '잠금 획득 시간',
+   locked_by        varchar(255)    not null            comment '잠금 소유 서버',
+
+   primary key(lock_name)
+);
+
 /* 주문 상세 테이블 */
 create table bmpc_order_item(
    item_id      int          	auto_increment      comment '주문 항목 아이디',
@@ -20,6 +20,7 @@ import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import it.korea.app_bmpc.admin.dto.AdminReviewSearchDTO;
+import it.korea.app_bmpc.admin.dto.AdminStoreBulkStatusRequestDTO;
 import it.korea.app_bmpc.admin.dto.AdminStoreStatusRequestDTO;
 import it.korea.app_bmpc.admin.dto.AdminUserDTO;
 import it.korea.app_bmpc.admin.dto.AdminUserRequestDTO;
@@ -247,6 +248,35 @@ public class AdminUserApiController {
         return ResponseEntity.ok().body(ApiResponse.ok("OK"));
     }
 
+    /**
+     * 가게 영업 상태 일괄 변경하기
+     * @param request 가게 영업 상태 일괄 변경 객체
+     * @return
+     * @throws Exception
+     */
+    @PutMapping("/admin/store/status/bulk")
+    @Operation(summary = "가게 영업 상태 일괄 변경하기")
+    public ResponseEntity<?> changeStoreStatusBulk(@Valid @RequestBody AdminStoreBulkStatusRequestDTO request) throws Exception {
+
+        Map<String, Object> resultMap = storeService.changeStoreStatusBulkByAdmin(request);
+
+        return ResponseEntity.ok().body(ApiResponse.ok(resultMap));
+    }
+
+    /**
+     * 가게 검색 테이블 재생성하기
+     * @return
+     * @throws Exception
+     */
+    @PostMapping("/admin/store/search/rebuild")
+    @Operation(summary = "가게 검색 테이블 재생성하기")
+    public ResponseEntity<?> rebuildStoreSearch() throws Exception {
+
+        Map<String, Object> resultMap = storeService.rebuildStoreSearchByAdmin();
+
+        return ResponseEntity.ok().body(ApiResponse.ok(resultMap));
+    }
+
     /**
      * 가게 삭제하기
      * @param storeId 가게 아이디
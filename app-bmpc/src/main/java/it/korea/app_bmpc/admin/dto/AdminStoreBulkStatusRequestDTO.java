@@ -0,0 +1,17 @@
+package it.korea.app_bmpc.admin.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+@Data
+public class AdminStoreBulkStatusRequestDTO {
+    private List<Integer> storeIdList;       // 변경할 가게 아이디 리스트
+    private AdminStoreSearchDTO search;      // 가게 아이디 리스트가 없으면 검색 조건에 맞는 가게 전체 변경
+
+    @NotBlank(message = "휴무 여부는 필수 항목입니다.")
+    @Pattern(regexp = "^[YN]$", message = "휴무 여부는 'Y' 또는 'N'이어야 합니다.")
+    private String closeYn;
+}
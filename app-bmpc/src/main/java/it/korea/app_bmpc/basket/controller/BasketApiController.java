@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -20,6 +21,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import it.korea.app_bmpc.basket.dto.BasketDTO;
 import it.korea.app_bmpc.basket.service.BasketService;
 import it.korea.app_bmpc.common.dto.ApiResponse;
+import it.korea.app_bmpc.order.service.OrderIdempotencyService;
 import it.korea.app_bmpc.user.dto.UserSecureDTO;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +33,7 @@ import lombok.RequiredArgsConstructor;
 public class BasketApiController {
 
     private final BasketService basketService;
+    private final OrderIdempotencyService orderIdempotencyService;
 
     /**
      * 나의 장바구니 가져오기
@@ -53,7 +56,9 @@ public class BasketApiController {
 
     /**
      * 장바구니 전부 주문하기
+     * 같은 Idempotency-Key 로 다시 요청하면 주문을 다시 실행하지 않고 처음 결과를 돌려준다.
      * @param request 장바구니 객체
+     * @param idempotencyKey 재시도 구분용 멱등키 (선택)
      * @param user 로그인한 사용자
      * @return
      * @throws Exception
@@ -62,13 +67,20 @@ public class BasketApiController {
     @PostMapping("/basket/order")
     @Operation(summary = "장바구니 전부 주문하기")
     public ResponseEntity<?> orderAllMenu(@Valid @RequestBody BasketDTO.OrderRequest request,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
             @AuthenticationPrincipal UserSecureDTO user) throws Exception {
 
         request.setUserId(user.getUserId());
 
-        basketService.orderAllMenu(request);
+        OrderIdempotencyService.IdempotentResult result =
+            orderIdempotencyService.execute(user.getUserId(), idempotencyKey, request, () -> basketService.orderAllMenu(request));
 
-        return ResponseEntity.ok().body(ApiResponse.ok("OK"));
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("orderId", result.getOrderId());   // 처음 주문이든 재요청이든 같은 주문 번호
+
+        return ResponseEntity.ok()
+            .header("Idempotent-Replayed", String.valueOf(result.isReplayed()))
+            .body(ApiResponse.ok(resultMap));
     }
 
     /**
@@ -28,6 +28,7 @@ import it.korea.app_bmpc.order.entity.OrderEntity;
 import it.korea.app_bmpc.order.entity.OrderItemEntity;
 import it.korea.app_bmpc.order.entity.OrderItemOptionEntity;
 import it.korea.app_bmpc.order.event.OrderCreatedEvent;
+import it.korea.app_bmpc.order.event.OrderPlacedEvent;
 import it.korea.app_bmpc.order.repository.OrderRepository;
 import it.korea.app_bmpc.store.entity.StoreEntity;
 import it.korea.app_bmpc.user.entity.UserEntity;
@@ -73,10 +74,11 @@ public class BasketService {
     /**
      * 장바구니 전부 주문하기
      * @param request 장바구니 객체
+     * @return 주문 번호
      * @throws Exception
      */
     @Transactional
-    public void orderAllMenu(BasketDTO.OrderRequest request) throws Exception {
+    public int orderAllMenu(BasketDTO.OrderRequest request) throws Exception {
 
         BasketEntity basketEntity = basketRepository.findByUser_userId(request.getUserId())
             .orElseThrow(() -> new RuntimeException("해당 사용자가 가진 장바구니가 존재하지 않습니다."));
@@ -110,12 +112,6 @@ public class BasketService {
         // 사용자 정보 가져오기
         UserEntity userEntity = basketEntity.getUser();
 
-        // 보유금 잔액 확인
-        if (userEntity.getDeposit() < totalPrice) {
-            throw new RuntimeException("보유금이 부족합니다. 현재 잔액: " 
-                + userEntity.getDeposit() + "원, 주문 금액: " + totalPrice + "원");
-        }
-
         // 주문 생성
         OrderEntity orderEntity = new OrderEntity();
         orderEntity.setUser(userEntity);
@@ -168,16 +164,14 @@ public class BasketService {
         // 주문 총액 저장
         orderEntity.setTotalPrice(totalPrice);
 
-        // 보유금 차감
-        int newDeposit = userEntity.getDeposit() - totalPrice;
-        userEntity.setDeposit(newDeposit);
+        // 보유금 차감 (잔액이 충분할 때만 DB 에서 바로 차감하므로 동시에 주문해도 잔액 이상 빠져나가지 않음)
+        if (userRepository.debitDeposit(userEntity.getUserId(), totalPrice) == 0) {
+            throw new RuntimeException("보유금이 부족합니다. 주문 금액: " + totalPrice + "원");
+        }
 
         // 주문 저장
         orderRepository.save(orderEntity);
 
-        // 보유금 수정
-        userRepository.save(userEntity);
-
         // 장바구니 비우기
         basketEntity.getItemList().clear();
         basketEntity.setTotalPrice(0);
@@ -192,6 +186,11 @@ public class BasketService {
 
         //점주에게 sms 발송하기위해 이벤트 발행 (모든 save가 정상적으로 실행이 된 이후 발송됨)
         eventPublisher.publishEvent(new OrderCreatedEvent(orderEntity.getOrderId(), ownerPhone));
+
+        // 자동 취소 대기열에 등록 (커밋 이후 등록됨)
+        eventPublisher.publishEvent(new OrderPlacedEvent(orderEntity.getOrderId(), orderEntity.getOrderDate()));
+
+        return orderEntity.getOrderId();
     }
 
     /**
@@ -0,0 +1,114 @@
+package it.korea.app_bmpc.common.aspect;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import it.korea.app_bmpc.common.lock.SchedulerLock;
+import it.korea.app_bmpc.common.lock.SchedulerLockRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * @SchedulerLock 이 붙은 스케줄러 작업을 DB 잠금을 잡은 서버에서만 실행
+ * 트랜잭션보다 바깥에서 동작해야 작업 트랜잭션이 커밋된 뒤에 잠금이 풀리므로 가장 높은 우선순위로 둔다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SchedulerLockAspect {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+
+    private final String owner;   // 잠금 소유자 (호스트명 + 프로세스)
+
+    // 실행 중인 작업의 잠금 연장용 스레드
+    private final ScheduledExecutorService renewExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scheduler-lock-renew");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SchedulerLockAspect(SchedulerLockRepository schedulerLockRepository) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.owner = createOwner();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        renewExecutor.shutdownNow();
+    }
+
+    @Around("@annotation(schedulerLock)")
+    public Object lock(ProceedingJoinPoint joinPoint, SchedulerLock schedulerLock) throws Throwable {
+        String name = schedulerLock.name();
+        LocalDateTime lockedAt = LocalDateTime.now();
+
+        boolean locked = false;
+
+        try {
+            locked = schedulerLockRepository.tryLock(name, owner, lockedAt,
+                lockedAt.plusNanos(schedulerLock.lockAtMostForMs() * 1_000_000));
+        } catch (Exception e) {
+            log.error("스케줄러 잠금 {} 획득 중 오류 발생. 이번 실행은 건너뜀. {}", name, e.getMessage());
+        }
+
+        if (!locked) {
+            log.debug("스케줄러 잠금 {} 을 다른 서버가 사용 중. 이번 실행은 건너뜀.", name);
+            return null;
+        }
+
+        // 작업이 최대 잠금 시간보다 길어져도 다른 서버가 가져가지 않도록 절반마다 연장
+        long renewIntervalMs = Math.max(1000, schedulerLock.lockAtMostForMs() / 2);
+        ScheduledFuture<?> renewFuture = renewExecutor.scheduleAtFixedRate(() -> {
+            try {
+                LocalDateTime now = LocalDateTime.now();
+
+                if (!schedulerLockRepository.extend(name, owner, now, now.plusNanos(schedulerLock.lockAtMostForMs() * 1_000_000))) {
+                    log.warn("스케줄러 잠금 {} 연장 실패. 이미 만료되어 다른 서버가 가져갔을 수 있음.", name);
+                }
+            } catch (Exception e) {
+                log.warn("스케줄러 잠금 {} 연장 중 오류 발생. {}", name, e.getMessage());
+            }
+        }, renewIntervalMs, renewIntervalMs, TimeUnit.MILLISECONDS);
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            renewFuture.cancel(false);
+
+            try {
+                LocalDateTime now = LocalDateTime.now();
+                LocalDateTime minUnlockTime = lockedAt.plusNanos(schedulerLock.lockAtLeastForMs() * 1_000_000);
+
+                schedulerLockRepository.unlock(name, owner, now.isAfter(minUnlockTime) ? now : minUnlockTime);
+            } catch (Exception e) {
+                log.error("스케줄러 잠금 {} 해제 중 오류 발생. 최대 잠금 시간이 지나면 풀림. {}", name, e.getMessage());
+            }
+        }
+    }
+
+    private String createOwner() {
+        String host = "unknown";
+
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            log.warn("호스트명 확인 실패. {}", e.getMessage());
+        }
+
+        return host + "-" + ManagementFactory.getRuntimeMXBean().getName();
+    }
+}
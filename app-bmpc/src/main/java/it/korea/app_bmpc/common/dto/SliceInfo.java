@@ -0,0 +1,28 @@
+package it.korea.app_bmpc.common.dto;
+
+import org.springframework.data.domain.Slice;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class SliceInfo {
+    private int size;
+    private int numberOfElements;
+    private boolean hasNext;
+    private String nextCursor;   // 다음 페이지 요청시 넘겨줄 커서 (마지막 페이지면 null)
+
+    public static SliceInfo of(Slice<?> sliceList, String nextCursor) {
+        return SliceInfo.builder()
+            .size(sliceList.getSize())
+            .numberOfElements(sliceList.getNumberOfElements())
+            .hasNext(sliceList.hasNext())
+            .nextCursor(nextCursor)
+            .build();
+    }
+}
@@ -0,0 +1,31 @@
+package it.korea.app_bmpc.common.lock;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 서버 중 한 서버에서만 실행되어야 하는 스케줄러 작업에 붙이는 어노테이션
+ * DB 의 bmpc_scheduler_lock 테이블로 임대(lease)를 잡은 서버만 실행하고, 나머지 서버는 이번 실행을 건너뛴다.
+ * (메모리 버퍼/인덱스처럼 서버마다 따로 도는 작업에는 붙이지 않음)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SchedulerLock {
+
+    /**
+     * 잠금 이름 (작업마다 고유해야 함)
+     */
+    String name();
+
+    /**
+     * 최대 잠금 유지 시간(ms). 실행 중에는 이 시간의 절반마다 연장되고, 서버가 죽으면 이 시간이 지난 뒤 다른 서버가 가져간다.
+     */
+    long lockAtMostForMs() default 600000;
+
+    /**
+     * 최소 잠금 유지 시간(ms). 작업이 빨리 끝나도 이 시간 동안은 다른 서버가 같은 작업을 다시 실행하지 않는다.
+     */
+    long lockAtLeastForMs() default 0;
+}
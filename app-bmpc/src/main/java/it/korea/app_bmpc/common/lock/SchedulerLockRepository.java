@@ -0,0 +1,95 @@
+package it.korea.app_bmpc.common.lock;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스케줄러 잠금(임대) 테이블 레포지토리
+ * 잠금 행이 없으면 insert, 있으면 만료된 경우에만 update 해서 가져가므로 동시에 여러 서버가 시도해도 한 서버만 성공한다.
+ * MariaDB, H2 에서 모두 동작하도록 DB 전용 문법(on duplicate key 등)은 사용하지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SchedulerLockRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Set<String> knownLockNames = ConcurrentHashMap.newKeySet();   // 이미 행이 있는 잠금 이름
+
+    /**
+     * 잠금 획득
+     * @param name 잠금 이름
+     * @param owner 잠금 소유자 (서버 식별자)
+     * @param now 현재 시간
+     * @param lockUntil 잠금 만료 시간
+     * @return 획득 여부
+     */
+    public boolean tryLock(String name, String owner, LocalDateTime now, LocalDateTime lockUntil) {
+        if (!knownLockNames.contains(name)) {
+            try {
+                jdbcTemplate.update("""
+                        insert into bmpc_scheduler_lock (lock_name, lock_until, locked_at, locked_by)
+                        values (?, ?, ?, ?)
+                    """, name, Timestamp.valueOf(lockUntil), Timestamp.valueOf(now), owner);
+
+                knownLockNames.add(name);
+
+                return true;
+            } catch (DataIntegrityViolationException e) {
+                knownLockNames.add(name);   // 다른 서버가 이미 만든 잠금
+            }
+        }
+
+        int updated = jdbcTemplate.update("""
+                update bmpc_scheduler_lock
+                set lock_until = ?, locked_at = ?, locked_by = ?
+                where lock_name = ?
+                and lock_until <= ?
+            """, Timestamp.valueOf(lockUntil), Timestamp.valueOf(now), owner, name, Timestamp.valueOf(now));
+
+        return updated > 0;
+    }
+
+    /**
+     * 잠금 연장 (아직 내가 잡고 있는 잠금만)
+     * @param name 잠금 이름
+     * @param owner 잠금 소유자
+     * @param now 현재 시간
+     * @param lockUntil 새 잠금 만료 시간
+     * @return 연장 여부
+     */
+    public boolean extend(String name, String owner, LocalDateTime now, LocalDateTime lockUntil) {
+        int updated = jdbcTemplate.update("""
+                update bmpc_scheduler_lock
+                set lock_until = ?
+                where lock_name = ?
+                and locked_by = ?
+                and lock_until > ?
+            """, Timestamp.valueOf(lockUntil), name, owner, Timestamp.valueOf(now));
+
+        return updated > 0;
+    }
+
+    /**
+     * 잠금 해제 (최소 유지 시간이 남았다면 그 시간까지만 유지)
+     * @param name 잠금 이름
+     * @param owner 잠금 소유자
+     * @param unlockTime 잠금을 풀 시간
+     */
+    public void unlock(String name, String owner, LocalDateTime unlockTime) {
+        jdbcTemplate.update("""
+                update bmpc_scheduler_lock
+                set lock_until = ?
+                where lock_name = ?
+                and locked_by = ?
+            """, Timestamp.valueOf(unlockTime), name, owner);
+    }
+}
@@ -3,6 +3,7 @@ package it.korea.app_bmpc.common.utils;
 public class GeoUtils {
 
     private static final double EARTH_RADIUS_KM = 6371.0;   // 지구 반지름
+    private static final double KM_PER_DEGREE = 111.32;    // 위도 1도당 거리(km)
 
     /**
      * Haversine 공식을 이용해서 거리 계산
@@ -24,4 +25,24 @@ public class GeoUtils {
 
         return EARTH_RADIUS_KM * c;
     }
+
+    /**
+     * 반경(km)을 위도 차이(도)로 환산
+     * @param radiusKm 반경(km)
+     * @return
+     */
+    public static double latitudeDelta(double radiusKm) {
+        return radiusKm / KM_PER_DEGREE;
+    }
+
+    /**
+     * 반경(km)을 경도 차이(도)로 환산
+     * 경도 1도의 거리는 위도가 높아질수록 cos(위도) 만큼 줄어든다.
+     * @param latitude 기준 위도
+     * @param radiusKm 반경(km)
+     * @return
+     */
+    public static double longitudeDelta(double latitude, double radiusKm) {
+        return radiusKm / (KM_PER_DEGREE * Math.cos(Math.toRadians(latitude)));
+    }
 }
@@ -30,4 +30,22 @@ public class AsyncConfig {
 
         return executor;
     }
+
+    /**
+     * 주소 좌표 변환이 끝난 뒤 가게/찜 목록 조회를 이어서 처리할 스레드풀 설정
+     * (카카오 API 응답을 기다리는 동안 톰캣 요청 스레드를 붙잡지 않기 위함)
+     * @return
+     */
+    @Bean(name = "storeSearchExecutor")
+    public Executor storeSearchExecutor() {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(10);
+        executor.setMaxPoolSize(50);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("store-search-");
+        executor.initialize();
+
+        return executor;
+    }
 }
@@ -92,6 +92,7 @@ public class SecurityConfig {
             .formLogin(AbstractHttpConfigurer::disable)  // 토큰 발행으로 로그인할것이기 때문에 기존 form 로그인 방식은 끈다
             .authorizeHttpRequests(auth -> auth
                 .dispatcherTypeMatchers(DispatcherType.FORWARD).permitAll()
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()   // 비동기 응답 재디스패치는 최초 요청에서 이미 인가됨
                 .requestMatchers("/api/v1/login/**").permitAll()
                 .requestMatchers("/api/v1/logout/**").permitAll()
                 .requestMatchers("/api/v1/refresh/**").permitAll()
@@ -155,6 +156,7 @@ public class SecurityConfig {
 
         // 헤더 설정
         config.setAllowedHeaders(List.of("*"));
+        config.setExposedHeaders(List.of("Idempotent-Replayed"));   // 주문 멱등키 재요청 여부
 
         // 메서드 설정
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
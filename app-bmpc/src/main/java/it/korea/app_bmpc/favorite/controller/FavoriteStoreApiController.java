@@ -1,7 +1,11 @@
 package it.korea.app_bmpc.favorite.controller;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
@@ -20,17 +24,26 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import it.korea.app_bmpc.common.dto.ApiResponse;
 import it.korea.app_bmpc.favorite.dto.FavoriteStoreDTO;
 import it.korea.app_bmpc.favorite.service.FavoriteStoreService;
+import it.korea.app_bmpc.kakao.service.KakaoAddressService;
 import it.korea.app_bmpc.user.dto.UserSecureDTO;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
 
 @Tag(name = "찜 API", description = "찜 등록, 찜 삭제 등 찜 기능 API")
 @RestController
-@RequiredArgsConstructor
 @RequestMapping("/api/v1")
 public class FavoriteStoreApiController {
 
     private final FavoriteStoreService favoriteStoreService;
+    private final KakaoAddressService kakaoAddressService;
+    private final Executor storeSearchExecutor;
+
+    public FavoriteStoreApiController(FavoriteStoreService favoriteStoreService,
+            KakaoAddressService kakaoAddressService,
+            @Qualifier("storeSearchExecutor") Executor storeSearchExecutor) {
+        this.favoriteStoreService = favoriteStoreService;
+        this.kakaoAddressService = kakaoAddressService;
+        this.storeSearchExecutor = storeSearchExecutor;
+    }
 
     /**
      * 찜 리스트 가져오기
@@ -41,14 +54,25 @@ public class FavoriteStoreApiController {
      */
     @GetMapping("/favorite")
     @Operation(summary = "찜 리스트 가져오기")
-    public ResponseEntity<?> getFavoriteStoreList(@PageableDefault(page = 0, size = 10, 
+    public CompletableFuture<ResponseEntity<?>> getFavoriteStoreList(@PageableDefault(page = 0, size = 10, 
             sort = "createDate", direction = Direction.DESC) Pageable pageable,
             @Valid FavoriteStoreDTO.Search searchDTO,
             @AuthenticationPrincipal UserSecureDTO user) throws Exception {
 
-        Map<String, Object> resultMap = favoriteStoreService.getFavoriteStoreList(pageable, searchDTO, user.getUserId());
+        String userId = user.getUserId();
+
+        // 카카오 API 로 사용자 주소의 위도/경도를 얻는 동안 요청 스레드는 반환하고,
+        // 좌표가 준비되면 별도 스레드풀에서 찜 목록 조회를 이어서 처리
+        return kakaoAddressService.getLocationAsync(searchDTO.getAddr())
+            .<ResponseEntity<?>>thenApplyAsync(optResponse -> {
+                try {
+                    Map<String, Object> resultMap = favoriteStoreService.getFavoriteStoreList(pageable, searchDTO, userId, optResponse);
 
-        return ResponseEntity.ok().body(ApiResponse.ok(resultMap));
+                    return ResponseEntity.ok().body(ApiResponse.ok(resultMap));
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, storeSearchExecutor);
     }
 
     /**
@@ -17,7 +17,6 @@ import it.korea.app_bmpc.favorite.dto.FavoriteStoreDTO;
 import it.korea.app_bmpc.favorite.entity.FavoriteStoreEntity;
 import it.korea.app_bmpc.favorite.repository.FavoriteStoreRepository;
 import it.korea.app_bmpc.kakao.dto.KakaoAddressResponseDTO;
-import it.korea.app_bmpc.kakao.service.KakaoAddressService;
 import it.korea.app_bmpc.store.entity.StoreEntity;
 import it.korea.app_bmpc.store.repository.StoreRepository;
 import it.korea.app_bmpc.user.entity.UserEntity;
@@ -33,24 +32,22 @@ public class FavoriteStoreService {
     private final FavoriteStoreRepository favoriteStoreRepository;
     private final UserRepository userRepository;
     private final StoreRepository storeRepository;
-    private final KakaoAddressService kakaoAddressService;
 
     /**
      * 찜 리스트 가져오기
      * @param pageable 페이징 객체
      * @param userId 사용자 아이디
+     * @param optResponse 사용자 주소를 카카오 API 로 변환한 위도/경도 값
      * @return
      * @throws Exception
      */
     @Transactional(readOnly = true)
-    public Map<String, Object> getFavoriteStoreList(Pageable pageable, FavoriteStoreDTO.Search searchDTO, String userId) throws Exception {
+    public Map<String, Object> getFavoriteStoreList(Pageable pageable, FavoriteStoreDTO.Search searchDTO, String userId,
+            Optional<KakaoAddressResponseDTO> optResponse) throws Exception {
         Map<String, Object> resultMap = new HashMap<>();
 
         Page<FavoriteStoreEntity> pageList = favoriteStoreRepository.findAllByUser_userIdAndStore_delYn(userId, "N", pageable);
 
-        // 넘어온 사용자의 주소값으로 카카오 API 호출해서 위도/경도 값 얻어오기
-        Optional<KakaoAddressResponseDTO> optResponse = kakaoAddressService.getLocation(searchDTO.getAddr());
-
         BigDecimal userLatitude = null;
         BigDecimal userLongitude = null;
 
@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ResponseStatusException;
 
 import it.korea.app_bmpc.common.dto.ApiErrorResponse;
 import it.korea.app_bmpc.common.dto.ErrorCodeEnum;
@@ -132,6 +133,19 @@ public class CommonExceptionHandler {
         return ResponseEntity.status(ErrorCodeEnum.DATABASE_ERROR.getStatus()).body(apiErrorResponse);
     }
 
+    /**
+     * 상태 코드를 지정한 예외 (멱등키 재사용 등)
+     * @param e
+     * @return
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    protected ResponseEntity<ApiErrorResponse> handleResponseStatusException(ResponseStatusException e) {
+        log.error("===== ResponseStatusException : {} =====", e.getMessage());
+
+        ApiErrorResponse apiErrorResponse = getApiErrorResponse("E" + e.getStatusCode().value(), e.getReason());
+        return ResponseEntity.status(e.getStatusCode()).body(apiErrorResponse);
+    }
+
     /**
      * 런타임 예외
      * @param e
@@ -1,14 +1,25 @@
 package it.korea.app_bmpc.kakao.service;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
 import it.korea.app_bmpc.kakao.dto.KakaoAddressResponseDTO;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @Service
@@ -23,29 +34,139 @@ public class KakaoAddressService {
     @Value("${kakao.api.url}")
     private String kakaoApiUrl;   // API URL
 
+    @Value("${kakao.cache.max-size:10000}")
+    private long cacheMaxSize;    // 좌표 캐시 최대 개수
+
+    @Value("${kakao.cache.ttl-minutes:1440}")
+    private long cacheTtlMinutes;   // 좌표 캐시 유지 시간(분)
+
+    @Value("${kakao.cache.negative-ttl-seconds:60}")
+    private long negativeCacheTtlSeconds;   // 조회 실패 결과 캐시 유지 시간(초)
+
+    // 정규화된 주소 -> 좌표 응답 (조회 실패시 Optional.empty 를 짧게 저장)
+    // 같은 주소로 동시에 들어온 요청들은 진행중인 하나의 future 를 공유한다.
+    private AsyncCache<String, Optional<KakaoAddressResponseDTO>> geocodeCache;
+
+    @PostConstruct
+    public void init() {
+        long positiveTtlNanos = TimeUnit.MINUTES.toNanos(cacheTtlMinutes);
+        long negativeTtlNanos = TimeUnit.SECONDS.toNanos(negativeCacheTtlSeconds);
+
+        geocodeCache = Caffeine.newBuilder()
+            .maximumSize(cacheMaxSize)
+            .expireAfter(new Expiry<String, Optional<KakaoAddressResponseDTO>>() {
+                @Override
+                public long expireAfterCreate(String key, Optional<KakaoAddressResponseDTO> value, long currentTime) {
+                    return value.isPresent() ? positiveTtlNanos : negativeTtlNanos;
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, Optional<KakaoAddressResponseDTO> value, long currentTime,
+                        long currentDuration) {
+                    return value.isPresent() ? positiveTtlNanos : negativeTtlNanos;
+                }
+
+                @Override
+                public long expireAfterRead(String key, Optional<KakaoAddressResponseDTO> value, long currentTime,
+                        long currentDuration) {
+                    return currentDuration;   // 조회로는 만료 시간을 늘리지 않음
+                }
+            })
+            .recordStats()   // 히트/미스 통계 기록
+            .buildAsync();
+    }
+
+    /**
+     * 주소로 위도/경도 가져오기 (캐시 우선, 논블로킹)
+     * 같은 주소에 대한 조회가 이미 진행중이면 새로 API 를 호출하지 않고 그 결과를 같이 기다린다.
+     * @param address 주소
+     * @return
+     */
+    public CompletableFuture<Optional<KakaoAddressResponseDTO>> getLocationAsync(String address) {
+        String normalizedAddress = normalizeAddress(address);
+
+        if (StringUtils.isBlank(normalizedAddress)) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        return geocodeCache.get(normalizedAddress, (key, executor) -> requestLocation(key));
+    }
+
+    /**
+     * 주소로 위도/경도 가져오기 (캐시 우선, 동기)
+     * 가게 등록/수정처럼 결과를 바로 써야하는 곳에서 사용
+     * @param address 주소
+     * @return
+     */
     public Optional<KakaoAddressResponseDTO> getLocation(String address) {
-        log.info("카카오 맵 API 호출");
+        return getLocationAsync(address).join();
+    }
+
+    /**
+     * 좌표 캐시 통계 가져오기
+     * @return
+     */
+    public CacheStats getCacheStats() {
+        return geocodeCache.synchronous().stats();
+    }
+
+    /**
+     * 10분마다 좌표 캐시 통계 로그 출력
+     */
+    @Scheduled(fixedRate = 600000, initialDelay = 600000)
+    public void logCacheStats() {
+        CacheStats stats = geocodeCache.synchronous().stats();
+
+        log.info("카카오 좌표 캐시 통계) 개수: {}, 히트: {}, 미스: {}, 히트율: {}",
+            geocodeCache.synchronous().estimatedSize(),
+            stats.hitCount(),
+            stats.missCount(),
+            String.format("%.2f", stats.hitRate()));
+    }
 
-        try {
-            KakaoAddressResponseDTO response = webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                    .path(kakaoApiUrl)
-                    .queryParam("query", address)
-                    .build())
-                .header("Authorization", "KakaoAK " + kakaoApiKey)   // API KEY 앞에 KakaoAK 를 꼭 붙여야함
-                .retrieve()
-                .bodyToMono(KakaoAddressResponseDTO.class)
-                .block();   // 동기 처리
-
-            if (response == null || response.getDocuments() == null || response.getDocuments().isEmpty()) {
-                log.warn("카카오 맵 API 응답 없음");
-                return Optional.empty();
-            }
-
-            return Optional.of(response);
-        } catch (Exception e) {
-            log.error("카카오 맵 API 호출 실패: {}", e.getMessage());
-            return Optional.empty();
+    /**
+     * 캐시 키로 쓰기 위해 주소 정규화 (앞뒤 공백 제거, 연속 공백을 하나로)
+     * @param address 주소
+     * @return
+     */
+    private String normalizeAddress(String address) {
+        if (address == null) {
+            return null;
         }
+
+        return address.trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 카카오 맵 API 호출 (논블로킹)
+     * 실패하거나 결과가 없으면 Optional.empty 로 완료된다.
+     * @param address 정규화된 주소
+     * @return
+     */
+    private CompletableFuture<Optional<KakaoAddressResponseDTO>> requestLocation(String address) {
+        log.info("카카오 맵 API 호출");
+
+        return webClient.get()
+            .uri(uriBuilder -> uriBuilder
+                .path(kakaoApiUrl)
+                .queryParam("query", address)
+                .build())
+            .header("Authorization", "KakaoAK " + kakaoApiKey)   // API KEY 앞에 KakaoAK 를 꼭 붙여야함
+            .retrieve()
+            .bodyToMono(KakaoAddressResponseDTO.class)
+            .map(response -> {
+                if (response.getDocuments() == null || response.getDocuments().isEmpty()) {
+                    log.warn("카카오 맵 API 응답 없음");
+                    return Optional.<KakaoAddressResponseDTO>empty();
+                }
+
+                return Optional.of(response);
+            })
+            .defaultIfEmpty(Optional.empty())
+            .onErrorResume(e -> {
+                log.error("카카오 맵 API 호출 실패: {}", e.getMessage());
+                return Mono.just(Optional.empty());
+            })
+            .toFuture();
     }
 }
@@ -1,7 +1,10 @@
 package it.korea.app_bmpc.menu.dto;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 
@@ -45,6 +48,34 @@ public class MenuCategoryDTO {
                 .menuList(menuList)
                 .build();
         }
+
+        /**
+         * 메뉴 트리 조회 결과(카테고리 x 메뉴 행)를 카테고리별로 묶기
+         * 행이 카테고리 순서대로 정렬되어 있으므로 한 번만 훑으면 된다.
+         * @param rowList 메뉴 트리 조회 결과
+         * @return
+         */
+        public static List<Response> ofTree(List<MenuTreeProjection> rowList) {
+            Map<Integer, Response> categoryMap = new LinkedHashMap<>();
+
+            for (MenuTreeProjection row : rowList) {
+                Response category = categoryMap.computeIfAbsent(row.getMenuCaId(), menuCaId -> Response.builder()
+                    .menuCaId(menuCaId)
+                    .menuCaName(row.getMenuCaName())
+                    .displayOrder(row.getDisplayOrder())
+                    .createDate(row.getMenuCaCreateDate())
+                    .delYn(row.getMenuCaDelYn())
+                    .menuList(new ArrayList<>())
+                    .build());
+
+                // 메뉴가 하나도 없는 카테고리도 빈 리스트로 내려줌
+                if (row.getMenuId() != null) {
+                    category.getMenuList().add(MenuDTO.Response.of(row));
+                }
+            }
+
+            return new ArrayList<>(categoryMap.values());
+        }
     }
 
     @Data
@@ -66,6 +66,23 @@ public class MenuDTO {
                 .delYn(entity.getDelYn())
                 .build();
         }
+
+        public static Response of(MenuTreeProjection row) {
+            return Response.builder()
+                .menuId(row.getMenuId())
+                .menuName(row.getMenuName())
+                .description(row.getDescription())
+                .price(row.getPrice() != null ? row.getPrice() : 0)
+                .createDate(row.getCreateDate())
+                .updateDate(row.getUpdateDate())
+                .fileName(row.getFileName())
+                .storedName(row.getStoredName())
+                .filePath(row.getFilePath())
+                .fileThumbName(row.getFileThumbName())
+                .soldoutYn(row.getSoldoutYn())
+                .delYn(row.getDelYn())
+                .build();
+        }
     }
 
     @Builder
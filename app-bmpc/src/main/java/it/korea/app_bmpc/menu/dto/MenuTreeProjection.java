@@ -0,0 +1,28 @@
+package it.korea.app_bmpc.menu.dto;
+
+import java.time.LocalDateTime;
+
+public interface MenuTreeProjection {
+    // 메뉴 카테고리
+    Integer getMenuCaId();
+    String getMenuCaName();
+    Integer getDisplayOrder();
+    LocalDateTime getMenuCaCreateDate();
+    String getMenuCaDelYn();
+
+    // 메뉴 (메뉴가 없는 카테고리는 null)
+    Integer getMenuId();
+    String getMenuName();
+    String getDescription();
+    Integer getPrice();
+    LocalDateTime getCreateDate();
+    LocalDateTime getUpdateDate();
+    String getSoldoutYn();
+    String getDelYn();
+
+    // 메뉴 이미지 (이미지가 없는 메뉴는 null)
+    String getFileName();
+    String getStoredName();
+    String getFilePath();
+    String getFileThumbName();
+}
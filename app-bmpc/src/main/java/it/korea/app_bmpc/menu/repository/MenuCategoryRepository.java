@@ -4,7 +4,11 @@ import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import it.korea.app_bmpc.menu.dto.MenuTreeProjection;
 import it.korea.app_bmpc.menu.entity.MenuCategoryEntity;
 import it.korea.app_bmpc.store.entity.StoreEntity;
 import jakarta.persistence.LockModeType;
@@ -13,4 +17,25 @@ public interface MenuCategoryRepository extends JpaRepository<MenuCategoryEntity
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     List<MenuCategoryEntity> findByStoreAndDelYnOrderByDisplayOrderAsc(StoreEntity store, String delYn);
+
+    // 가게 상세 메뉴 트리 조회 (삭제된 카테고리/메뉴는 SQL 에서 제외하고 엔티티 대신 필요한 컬럼만 가져옴)
+    @Query("""
+        select mc.menuCaId as menuCaId, mc.menuCaName as menuCaName, mc.displayOrder as displayOrder,
+            mc.createDate as menuCaCreateDate, mc.delYn as menuCaDelYn,
+            m.menuId as menuId, m.menuName as menuName, m.description as description, m.price as price,
+            m.createDate as createDate, m.updateDate as updateDate, m.soldoutYn as soldoutYn, m.delYn as delYn,
+            f.fileName as fileName, f.storedName as storedName, f.filePath as filePath, f.fileThumbName as fileThumbName
+        from MenuCategoryEntity mc
+        left join mc.menuList m on m.delYn = 'N'
+        left join m.file f
+        where mc.store.storeId = :storeId
+        and mc.delYn = 'N'
+        order by mc.displayOrder asc, mc.menuCaId asc, m.menuId asc
+        """)
+    List<MenuTreeProjection> findMenuTreeByStoreId(@Param("storeId") int storeId);
+
+    // 가게 삭제시 하위 메뉴 카테고리 일괄 삭제 처리
+    @Modifying
+    @Query("update MenuCategoryEntity mc set mc.delYn = 'Y' where mc.store.storeId = :storeId and mc.delYn = 'N'")
+    int softDeleteByStoreId(@Param("storeId") int storeId);
 }
@@ -4,6 +4,9 @@ import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import it.korea.app_bmpc.menu.entity.MenuEntity;
 import it.korea.app_bmpc.menu.entity.MenuOptionGroupEntity;
@@ -13,4 +16,29 @@ public interface MenuOptionGroupRepository extends JpaRepository<MenuOptionGroup
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     List<MenuOptionGroupEntity> findByMenuAndDelYnOrderByDisplayOrderAsc(MenuEntity menu, String delYn);
+
+    // 가게 삭제시 하위 메뉴 옵션 그룹 일괄 삭제 처리
+    @Modifying
+    @Query("""
+        update MenuOptionGroupEntity g set g.delYn = 'Y'
+        where g.delYn = 'N'
+        and g.menu.menuId in (
+            select m.menuId from MenuEntity m where m.menuCategory.store.storeId = :storeId)
+    """)
+    int softDeleteByStoreId(@Param("storeId") int storeId);
+
+    // 메뉴 카테고리 삭제시 하위 메뉴 옵션 그룹 일괄 삭제 처리
+    @Modifying
+    @Query("""
+        update MenuOptionGroupEntity g set g.delYn = 'Y'
+        where g.delYn = 'N'
+        and g.menu.menuId in (
+            select m.menuId from MenuEntity m where m.menuCategory.menuCaId = :menuCaId)
+    """)
+    int softDeleteByMenuCaId(@Param("menuCaId") int menuCaId);
+
+    // 메뉴 삭제시 하위 메뉴 옵션 그룹 일괄 삭제 처리
+    @Modifying
+    @Query("update MenuOptionGroupEntity g set g.delYn = 'Y' where g.menu.menuId = :menuId and g.delYn = 'N'")
+    int softDeleteByMenuId(@Param("menuId") int menuId);
 }
@@ -1,9 +1,41 @@
 package it.korea.app_bmpc.menu.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import it.korea.app_bmpc.menu.entity.MenuOptionEntity;
 
 public interface MenuOptionRepository extends JpaRepository<MenuOptionEntity, Integer> {
 
+    // 가게 삭제시 하위 메뉴 옵션 일괄 삭제 처리
+    @Modifying
+    @Query("""
+        update MenuOptionEntity o set o.delYn = 'Y'
+        where o.delYn = 'N'
+        and o.menuOptionGroup.menuOptGrpId in (
+            select g.menuOptGrpId from MenuOptionGroupEntity g where g.menu.menuCategory.store.storeId = :storeId)
+    """)
+    int softDeleteByStoreId(@Param("storeId") int storeId);
+
+    // 메뉴 카테고리 삭제시 하위 메뉴 옵션 일괄 삭제 처리
+    @Modifying
+    @Query("""
+        update MenuOptionEntity o set o.delYn = 'Y'
+        where o.delYn = 'N'
+        and o.menuOptionGroup.menuOptGrpId in (
+            select g.menuOptGrpId from MenuOptionGroupEntity g where g.menu.menuCategory.menuCaId = :menuCaId)
+    """)
+    int softDeleteByMenuCaId(@Param("menuCaId") int menuCaId);
+
+    // 메뉴 삭제시 하위 메뉴 옵션 일괄 삭제 처리
+    @Modifying
+    @Query("""
+        update MenuOptionEntity o set o.delYn = 'Y'
+        where o.delYn = 'N'
+        and o.menuOptionGroup.menuOptGrpId in (
+            select g.menuOptGrpId from MenuOptionGroupEntity g where g.menu.menuId = :menuId)
+    """)
+    int softDeleteByMenuId(@Param("menuId") int menuId);
 }
@@ -1,13 +1,16 @@
 package it.korea.app_bmpc.menu.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import it.korea.app_bmpc.menu.entity.MenuEntity;
+import it.korea.app_bmpc.store.dto.StoreNameProjection;
 
 public interface MenuRepository extends JpaRepository<MenuEntity, Integer> {
 
@@ -30,4 +33,44 @@ public interface MenuRepository extends JpaRepository<MenuEntity, Integer> {
         where m.menuId in :menuIdList
     """)
     List<MenuEntity> findAllByMenuIdList(@Param("menuIdList") List<Integer> menuIdList);
+
+    // 텍스트 인덱스 생성용 메뉴명 조회 (메뉴, 메뉴 카테고리 모두 삭제되지 않은 것만)
+    @Query("""
+        select mc.store.storeId as storeId, m.menuName as name
+        from MenuEntity m
+        join m.menuCategory mc
+        where m.delYn = 'N'
+        and mc.delYn = 'N'
+    """)
+    List<StoreNameProjection> findAllActiveMenuName();
+
+    // 텍스트 인덱스 갱신용 메뉴명 조회
+    @Query("""
+        select mc.store.storeId as storeId, m.menuName as name
+        from MenuEntity m
+        join m.menuCategory mc
+        where mc.store.storeId = :storeId
+        and m.delYn = 'N'
+        and mc.delYn = 'N'
+    """)
+    List<StoreNameProjection> findActiveMenuNameByStoreId(@Param("storeId") int storeId);
+
+    // 가게 삭제시 하위 메뉴 일괄 삭제 처리
+    @Modifying
+    @Query("""
+        update MenuEntity m set m.delYn = 'Y', m.updateDate = :now
+        where m.delYn = 'N'
+        and m.menuCategory.menuCaId in (
+            select mc.menuCaId from MenuCategoryEntity mc where mc.store.storeId = :storeId)
+    """)
+    int softDeleteByStoreId(@Param("storeId") int storeId, @Param("now") LocalDateTime now);
+
+    // 메뉴 카테고리 삭제시 하위 메뉴 일괄 삭제 처리
+    @Modifying
+    @Query("""
+        update MenuEntity m set m.delYn = 'Y', m.updateDate = :now
+        where m.delYn = 'N'
+        and m.menuCategory.menuCaId = :menuCaId
+    """)
+    int softDeleteByMenuCaId(@Param("menuCaId") int menuCaId, @Param("now") LocalDateTime now);
 }
@@ -1,9 +1,11 @@
 package it.korea.app_bmpc.menu.service;
 
 import java.io.File;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -24,6 +26,7 @@ import it.korea.app_bmpc.menu.repository.MenuOptionGroupRepository;
 import it.korea.app_bmpc.menu.repository.MenuOptionRepository;
 import it.korea.app_bmpc.menu.repository.MenuRepository;
 import it.korea.app_bmpc.store.entity.StoreEntity;
+import it.korea.app_bmpc.store.event.StoreChangedEvent;
 import it.korea.app_bmpc.store.repository.StoreRepository;
 import it.korea.app_bmpc.user.entity.UserEntity;
 import it.korea.app_bmpc.user.repository.UserRepository;
@@ -44,6 +47,7 @@ public class MenuService {
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
     private final FileUtils fileUtils;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 메뉴 상세정보 가져오기
@@ -107,6 +111,8 @@ public class MenuService {
         storeEntity.addMenuCategory(entity, false);
 
         menuCategoryRepository.save(entity);
+
+        eventPublisher.publishEvent(new StoreChangedEvent(storeEntity.getStoreId()));
     }
 
     /**
@@ -176,6 +182,8 @@ public class MenuService {
         entity.setDisplayOrder(newOrder);
 
         menuCategoryRepository.save(entity);
+
+        eventPublisher.publishEvent(new StoreChangedEvent(storeEntity.getStoreId()));
     }
 
     /**
@@ -239,6 +247,8 @@ public class MenuService {
         }
 
         menuRepository.save(entity);
+
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getStoreId()));
     }
 
     /**
@@ -328,6 +338,8 @@ public class MenuService {
 
         menuRepository.save(entity);
 
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getStoreId()));
+
         if (request.getMainImage() != null && !request.getMainImage().isEmpty()) {
             // 3-3. 기존 파일 삭제 (작업 도중 DB에 문제가 생길 수도 있기 때문에 물리적 파일 삭제는 제일 마지막에 진행)
             // 메뉴 상세 정보 DTO 가 가지고 있는 파일 정보로 삭제
@@ -401,6 +413,8 @@ public class MenuService {
         menuEntity.addMenuOptionGroup(entity, true);   // 메뉴와 메뉴 옵션 그룹 매핑
 
         menuOptionGroupRepository.save(entity);
+
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getStoreId()));
     }
 
     /**
@@ -483,6 +497,8 @@ public class MenuService {
         entity.setDisplayOrder(newOrder);
 
         menuOptionGroupRepository.save(entity);
+
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getStoreId()));
     }
 
     /**
@@ -539,6 +555,8 @@ public class MenuService {
         groupEntity.addMenuOption(entity, true);  // 메뉴 옵션 그룹과 메뉴 옵션 매핑
 
         menuOptionRepository.save(entity);
+
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getStoreId()));
     }
 
     /**
@@ -593,6 +611,8 @@ public class MenuService {
         entity.setDisplayOrder(request.getDisplayOrder());
 
         menuOptionRepository.save(entity);
+
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getStoreId()));
     }
 
     /**
@@ -629,22 +649,10 @@ public class MenuService {
 
         entity.setDelYn("Y");
 
-        // 하위 메뉴, 메뉴 옵션 그룹, 메뉴 옵션까지 전부 삭제 처리
-        if (entity.getMenuList() != null && !entity.getMenuList().isEmpty()) {
-            entity.getMenuList().forEach(menu -> {
-                menu.setDelYn("Y");
-
-                if (menu.getMenuOptionGroupList() != null && !menu.getMenuOptionGroupList().isEmpty()) {
-                    menu.getMenuOptionGroupList().forEach(group -> {
-                        group.setDelYn("Y");
-
-                        if (group.getMenuOptionList() != null && !group.getMenuOptionList().isEmpty()) {
-                            group.getMenuOptionList().forEach(option -> option.setDelYn("Y"));
-                        }
-                    });
-                }
-            });
-        }
+        // 하위 메뉴, 메뉴 옵션 그룹, 메뉴 옵션까지 전부 삭제 처리 (엔티티를 불러오지 않고 단계별 일괄 update)
+        menuOptionRepository.softDeleteByMenuCaId(entity.getMenuCaId());
+        menuOptionGroupRepository.softDeleteByMenuCaId(entity.getMenuCaId());
+        menuRepository.softDeleteByMenuCaId(entity.getMenuCaId(), LocalDateTime.now());
 
         // 기존 카테고리 리스트 가져오기
         List<MenuCategoryEntity> menuCategoryList = menuCategoryRepository
@@ -658,6 +666,8 @@ public class MenuService {
         }
 
         menuCategoryRepository.save(entity);
+
+        eventPublisher.publishEvent(new StoreChangedEvent(storeEntity.getStoreId()));
     }
 
     /**
@@ -697,18 +707,13 @@ public class MenuService {
 
         entity.setDelYn("Y");
 
-        // 하위 메뉴 옵션 그룹, 메뉴 옵션까지 전부 삭제 처리
-        if (entity.getMenuOptionGroupList() != null && !entity.getMenuOptionGroupList().isEmpty()) {
-            entity.getMenuOptionGroupList().forEach(group -> {
-                group.setDelYn("Y");
-
-                if (group.getMenuOptionList() != null && !group.getMenuOptionList().isEmpty()) {
-                    group.getMenuOptionList().forEach(option -> option.setDelYn("Y"));
-                }
-            });
-        }
+        // 하위 메뉴 옵션 그룹, 메뉴 옵션까지 전부 삭제 처리 (엔티티를 불러오지 않고 단계별 일괄 update)
+        menuOptionRepository.softDeleteByMenuId(entity.getMenuId());
+        menuOptionGroupRepository.softDeleteByMenuId(entity.getMenuId());
 
         menuRepository.save(entity);
+
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getStoreId()));
     }
 
     /**
@@ -739,18 +744,13 @@ public class MenuService {
 
         entity.setDelYn("Y");
 
-        // 하위 메뉴 옵션 그룹, 메뉴 옵션까지 전부 삭제 처리
-        if (entity.getMenuOptionGroupList() != null && !entity.getMenuOptionGroupList().isEmpty()) {
-            entity.getMenuOptionGroupList().forEach(group -> {
-                group.setDelYn("Y");
-
-                if (group.getMenuOptionList() != null && !group.getMenuOptionList().isEmpty()) {
-                    group.getMenuOptionList().forEach(option -> option.setDelYn("Y"));
-                }
-            });
-        }
+        // 하위 메뉴 옵션 그룹, 메뉴 옵션까지 전부 삭제 처리 (엔티티를 불러오지 않고 단계별 일괄 update)
+        menuOptionRepository.softDeleteByMenuId(entity.getMenuId());
+        menuOptionGroupRepository.softDeleteByMenuId(entity.getMenuId());
 
         menuRepository.save(entity);
+
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getStoreId()));
     }
 
     /**
@@ -813,6 +813,8 @@ public class MenuService {
         }
 
         menuOptionGroupRepository.save(entity);
+
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getStoreId()));
     }
 
     /**
@@ -863,6 +865,8 @@ public class MenuService {
         entity.setDelYn("Y");
 
         menuOptionRepository.save(entity);
+
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getStoreId()));
     }
 
     /**
@@ -904,6 +908,8 @@ public class MenuService {
         entity.setDelYn("Y");
 
         menuOptionRepository.save(entity);
+
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getStoreId()));
     }
 
     /**
@@ -1004,6 +1010,8 @@ public class MenuService {
                 newGroup.addMenuOption(newOption, false);
             }
         }
+
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getStoreId()));
     }
 
     /**
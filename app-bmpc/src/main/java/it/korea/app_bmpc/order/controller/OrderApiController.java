@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -23,6 +24,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import it.korea.app_bmpc.common.dto.ApiResponse;
 import it.korea.app_bmpc.order.dto.OrderDTO;
 import it.korea.app_bmpc.order.dto.OrderStatusDTO;
+import it.korea.app_bmpc.order.service.OrderIdempotencyService;
 import it.korea.app_bmpc.order.service.OrderService;
 import it.korea.app_bmpc.user.dto.UserSecureDTO;
 import jakarta.validation.Valid;
@@ -35,6 +37,7 @@ import lombok.RequiredArgsConstructor;
 public class OrderApiController {
 
     private final OrderService orderService;
+    private final OrderIdempotencyService orderIdempotencyService;
 
     /**
      * 나의 주문내역 리스트 가져오기
@@ -158,7 +161,9 @@ public class OrderApiController {
 
     /**
      * 메뉴 주문하기
+     * 같은 Idempotency-Key 로 다시 요청하면 주문을 다시 실행하지 않고 처음 결과를 돌려준다.
      * @param request 주문 객체
+     * @param idempotencyKey 재시도 구분용 멱등키 (선택)
      * @param user 로그인한 사용자
      * @return
      * @throws Exception
@@ -166,12 +171,20 @@ public class OrderApiController {
     @Hidden
     @PostMapping("/order")
     public ResponseEntity<?> orderMenu(@Valid @RequestBody OrderDTO.Request request,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
             @AuthenticationPrincipal UserSecureDTO user) throws Exception {
 
         request.setUserId(user.getUserId());
-        orderService.orderMenu(request);
 
-        return ResponseEntity.ok().body(ApiResponse.ok("OK"));
+        OrderIdempotencyService.IdempotentResult result =
+            orderIdempotencyService.execute(user.getUserId(), idempotencyKey, request, () -> orderService.orderMenu(request));
+
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("orderId", result.getOrderId());   // 처음 주문이든 재요청이든 같은 주문 번호
+
+        return ResponseEntity.ok()
+            .header("Idempotent-Replayed", String.valueOf(result.isReplayed()))
+            .body(ApiResponse.ok(resultMap));
     }
 
     /**
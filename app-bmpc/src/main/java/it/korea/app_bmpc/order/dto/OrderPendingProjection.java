@@ -0,0 +1,8 @@
+package it.korea.app_bmpc.order.dto;
+
+import java.time.LocalDateTime;
+
+public interface OrderPendingProjection {
+    Integer getOrderId();
+    LocalDateTime getOrderDate();
+}
@@ -0,0 +1,7 @@
+package it.korea.app_bmpc.order.dto;
+
+public interface OrderRefundProjection {
+    Integer getOrderId();
+    String getUserId();
+    Integer getTotalPrice();
+}
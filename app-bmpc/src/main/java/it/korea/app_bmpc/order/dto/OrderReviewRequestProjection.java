@@ -0,0 +1,6 @@
+package it.korea.app_bmpc.order.dto;
+
+public interface OrderReviewRequestProjection {
+    Integer getOrderId();
+    String getUserId();
+}
@@ -7,6 +7,7 @@ import java.util.Set;
 import it.korea.app_bmpc.store.entity.StoreEntity;
 import it.korea.app_bmpc.user.entity.UserEntity;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -34,6 +35,10 @@ public class OrderEntity {
     private String addr;
     private String addrDetail;
 
+    // 리뷰 요청 SSE 발송 일시 (리뷰 요청 스케줄러에서 벌크 update 로만 변경)
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime reviewRequestDate;
+
     // 구매한 사용자 매핑
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
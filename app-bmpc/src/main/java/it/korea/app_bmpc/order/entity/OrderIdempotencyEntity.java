@@ -0,0 +1,31 @@
+package it.korea.app_bmpc.order.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "bmpc_order_idempotency",
+    uniqueConstraints = @UniqueConstraint(columnNames = { "user_id", "idem_key" }))
+public class OrderIdempotencyEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int idemId;
+    private String userId;
+    private String idemKey;         // 클라이언트가 보낸 Idempotency-Key
+    private Integer orderId;        // 처리된 주문 번호
+    @Column(columnDefinition = "CHAR(64)")
+    private String requestHash;     // 요청 본문 해시 (SHA-256)
+    private LocalDateTime createDate;
+}
@@ -0,0 +1,13 @@
+package it.korea.app_bmpc.order.event;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OrderPlacedEvent {
+    private final int orderId;
+    private final LocalDateTime orderDate;
+}
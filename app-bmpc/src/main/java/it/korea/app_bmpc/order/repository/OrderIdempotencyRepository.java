@@ -0,0 +1,21 @@
+package it.korea.app_bmpc.order.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import it.korea.app_bmpc.order.entity.OrderIdempotencyEntity;
+
+public interface OrderIdempotencyRepository extends JpaRepository<OrderIdempotencyEntity, Integer> {
+
+    Optional<OrderIdempotencyEntity> findByUserIdAndIdemKey(String userId, String idemKey);
+
+    // 유지 기간이 지난 멱등키 일괄 삭제
+    @Modifying
+    @Query("delete from OrderIdempotencyEntity i where i.createDate < :date")
+    int deleteByCreateDateBefore(@Param("date") LocalDateTime date);
+}
@@ -14,7 +14,12 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import it.korea.app_bmpc.order.dto.OrderPendingProjection;
+import it.korea.app_bmpc.order.dto.OrderRefundProjection;
+import it.korea.app_bmpc.order.dto.OrderReviewRequestProjection;
 import it.korea.app_bmpc.order.entity.OrderEntity;
+import it.korea.app_bmpc.store.dto.StorePopularGeoProjection;
+import it.korea.app_bmpc.store.dto.StorePopularProjection;
 import it.korea.app_bmpc.store.entity.StoreEntity;
 
 public interface OrderRepository extends JpaRepository<OrderEntity, Integer>, JpaSpecificationExecutor<OrderEntity> {
@@ -121,15 +126,85 @@ public interface OrderRepository extends JpaRepository<OrderEntity, Integer>, Jp
 
     boolean existsByStoreAndStatus(StoreEntity store, String status);
 
-    List<OrderEntity> findAllByStoreAndStatus(StoreEntity store, String status);
+    // 가게별 주문수 집계 (주문 엔티티를 불러오지 않고 주문수 상위 가게만 가져옴)
+    @Query("""
+        select s.storeId as storeId, s.storeName as storeName, count(o) as orderCount
+        from OrderEntity o
+        join o.store s
+        where o.status = :status
+        and o.orderDate >= :startDate
+        group by s.storeId, s.storeName
+        order by count(o) desc, s.storeId asc
+    """)
+    List<StorePopularProjection> findStoreOrderCountList(@Param("status") String status,
+        @Param("startDate") LocalDateTime startDate, Pageable pageable);
 
-    List<OrderEntity> findByStatusAndOrderDateBefore(String status, LocalDateTime before);
+    // 지역별 인기 가게 랭킹용 가게별 주문수 + 가게 좌표 집계
+    @Query("""
+        select s.storeId as storeId, s.storeName as storeName, count(o) as orderCount,
+            s.latitude as latitude, s.longitude as longitude
+        from OrderEntity o
+        join o.store s
+        where o.status = :status
+        and o.orderDate >= :startDate
+        and s.delYn = 'N'
+        and s.latitude is not null
+        and s.longitude is not null
+        group by s.storeId, s.storeName, s.latitude, s.longitude
+    """)
+    List<StorePopularGeoProjection> findStoreOrderCountWithGeoList(@Param("status") String status,
+        @Param("startDate") LocalDateTime startDate);
+
+    // 가게 폐업시 환불할 주문 조회 (취소 처리 전에 다른 상태 변경이 끼어들지 않도록 행 잠금)
+    @Query(value = """
+        select o.order_id as orderId, o.user_id as userId, o.total_price as totalPrice
+        from bmpc_orders o
+        where o.store_id = :storeId
+        and o.status = :status
+        for update
+    """, nativeQuery = true)
+    List<OrderRefundProjection> findRefundListForUpdate(@Param("storeId") int storeId, @Param("status") String status);
+
+    // 자동 취소할 주문 조회 (취소 처리 전에 점주 수락이 끼어들지 않도록 행 잠금)
+    @Query(value = """
+        select o.order_id as orderId, o.user_id as userId, o.total_price as totalPrice
+        from bmpc_orders o
+        where o.order_id in (:orderIdList)
+        and o.status = :status
+        for update
+    """, nativeQuery = true)
+    List<OrderRefundProjection> findRefundListByOrderIdListForUpdate(@Param("orderIdList") List<Integer> orderIdList,
+        @Param("status") String status);
 
-    List<OrderEntity> findByStatusAndOrderDateBetween(String status, LocalDateTime startDate, LocalDateTime endDate);
+    // 자동 취소 대기열 복구용 주문 조회
+    @Query("select o.orderId as orderId, o.orderDate as orderDate from OrderEntity o where o.status = :status")
+    List<OrderPendingProjection> findPendingList(@Param("status") String status);
 
-    List<OrderEntity> findByStatusAndOrderDateAfter(String status, LocalDateTime after);
+    // 자동 취소 누락 보정용 주문 아이디 조회 (status, order_date 인덱스 사용)
+    @Query("select o.orderId from OrderEntity o where o.status = :status and o.orderDate < :before")
+    List<Integer> findOrderIdListByStatusAndOrderDateBefore(@Param("status") String status, @Param("before") LocalDateTime before);
+
+    // 리뷰 요청 대상 주문 조회 (리뷰 요청을 보낸 적 없고 리뷰도 없는 주문만. status, review_request_date, order_date 인덱스 사용)
+    @Query("""
+        select o.orderId as orderId, u.userId as userId
+        from OrderEntity o
+        join o.user u
+        where o.status = :status
+        and o.reviewRequestDate is null
+        and o.orderDate between :startDate and :endDate
+        and u.delYn = 'N'
+        and not exists (select 1 from ReviewEntity r where r.order = o)
+    """)
+    List<OrderReviewRequestProjection> findReviewRequestList(@Param("status") String status,
+        @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    // 리뷰 요청 발송 완료 표시
+    @Modifying
+    @Query("update OrderEntity o set o.reviewRequestDate = :requestDate where o.orderId in :orderIdList and o.reviewRequestDate is null")
+    int updateReviewRequestDate(@Param("orderIdList") List<Integer> orderIdList, @Param("requestDate") LocalDateTime requestDate);
 
     @Modifying
-    @Query("update OrderEntity o set o.status = :newStatus where o.orderId = :orderId and o.status = :oldStatus")
-    int updateStatusWithScheduler(@Param("orderId") int orderId, @Param("oldStatus") String oldStatus, @Param("newStatus") String newStatus);
+    @Query("update OrderEntity o set o.status = :newStatus where o.orderId in :orderIdList and o.status = :oldStatus")
+    int updateStatusByOrderIdList(@Param("orderIdList") List<Integer> orderIdList, @Param("oldStatus") String oldStatus,
+        @Param("newStatus") String newStatus);
 }
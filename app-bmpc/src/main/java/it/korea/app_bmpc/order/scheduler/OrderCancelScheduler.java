@@ -1,19 +1,27 @@
 package it.korea.app_bmpc.order.scheduler;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
 
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import it.korea.app_bmpc.order.entity.OrderEntity;
-import it.korea.app_bmpc.order.event.OrderStatusChangedEvent;
+import it.korea.app_bmpc.common.lock.SchedulerLock;
+import it.korea.app_bmpc.order.dto.OrderPendingProjection;
+import it.korea.app_bmpc.order.event.OrderPlacedEvent;
 import it.korea.app_bmpc.order.repository.OrderRepository;
-import it.korea.app_bmpc.user.entity.UserEntity;
-import it.korea.app_bmpc.user.repository.UserRepository;
+import it.korea.app_bmpc.order.service.OrderService;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -21,83 +29,159 @@ import lombok.extern.slf4j.Slf4j;
  * 주문 자동 취소 스케줄러
  * 주문 후 5분이 지나도 점주가 수락하지 않으면 자동으로 '주문취소' 상태로 변경
  * 주문자에게 주문이 취소됐다고 SSE 알림 전송
+ *
+ * 주문이 들어오면 취소 시각 기준으로 DelayQueue 에 등록하고, 전용 스레드가 취소 시각이 된 주문만 꺼내서 바로 취소한다.
+ * 매분 테이블을 훑지 않으며, 같은 시각에 만료된 주문은 묶어서 update 한 번으로 취소한다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OrderCancelScheduler {
 
+    private static final int BATCH_SIZE = 500;   // 한 번에 취소할 최대 주문 수
+
     private final OrderRepository orderRepository;
-    private final UserRepository userRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OrderService orderService;
+
+    @Value("${order.auto-cancel.timeout-minutes:5}")
+    private long timeoutMinutes;   // 점주 수락 대기 시간(분)
+
+    private final DelayQueue<PendingOrder> pendingQueue = new DelayQueue<>();   // 취소 시각 순 대기열
 
-    // 스케줄러 동시 실행 방지용 lock
-    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Thread workerThread;
 
     /**
-     * 주문한지 5분이 넘었지만 수락이 안된 주문들 자동 취소하기
+     * 서버 기동이 끝나면 DB 에 남아있는 주문완료 상태 주문을 대기열에 다시 넣고 취소 스레드 시작
+     * (이미 취소 시각이 지난 주문은 바로 취소됨)
      */
-    @Scheduled(initialDelay = 60000, fixedRate = 60000) // 1분마다 실행
-    @Transactional
-    public void cancelOrderBySchedule() {
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            List<OrderPendingProjection> pendingList = orderRepository.findPendingList("주문완료");
+
+            for (OrderPendingProjection pending : pendingList) {
+                register(pending.getOrderId(), pending.getOrderDate());
+            }
+
+            log.info("주문 자동취소 대기열 복구 완료. 주문 수: {}", pendingList.size());
+        } catch (Exception e) {
+            log.error("주문 자동취소 대기열 복구 중 오류 발생. 누락 보정 작업에서 처리함. {}", e.getMessage());
+        }
+
+        workerThread = new Thread(this::runWorker, "order-auto-cancel");
+        workerThread.setDaemon(true);
+        workerThread.start();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (workerThread != null) {
+            workerThread.interrupt();
+        }
+    }
 
-        int count = 0;
-        boolean locked = false;
+    /**
+     * 주문 트랜잭션이 끝난 후 주문을 자동 취소 대기열에 등록
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleOrderPlacedEvent(OrderPlacedEvent event) {
+        register(event.getOrderId(), event.getOrderDate());
+    }
 
+    /**
+     * 대기열 누락 보정 (다른 서버에서 들어온 주문, 등록 실패 등)
+     * 취소 시각이 1분 넘게 지났는데도 주문완료 상태인 주문만 인덱스로 찾아서 취소
+     */
+    @Scheduled(initialDelayString = "${order.auto-cancel.sweep-interval-ms:300000}",
+        fixedDelayString = "${order.auto-cancel.sweep-interval-ms:300000}")
+    @SchedulerLock(name = "orderAutoCancelSweep", lockAtMostForMs = 240000, lockAtLeastForMs = 30000)
+    public void sweep() {
         try {
-            locked = lock.tryLock();
-            if (!locked) {
-                return;
-            }
+            List<Integer> orderIdList = orderRepository.findOrderIdListByStatusAndOrderDateBefore("주문완료",
+                LocalDateTime.now().minusMinutes(timeoutMinutes + 1));
 
-            log.info("주문 자동취소 스케줄러 시작");
+            for (int i = 0; i < orderIdList.size(); i += BATCH_SIZE) {
+                cancel(orderIdList.subList(i, Math.min(i + BATCH_SIZE, orderIdList.size())));
+            }
+        } catch (Exception e) {
+            log.error("주문 자동취소 누락 보정 중 예외 발생", e);
+        }
+    }
 
-            LocalDateTime time = LocalDateTime.now().minusMinutes(5);
-            List<OrderEntity> orderEntityList = orderRepository.findByStatusAndOrderDateBefore("주문완료", time);
+    /**
+     * 취소 시각이 된 주문을 꺼내서 취소 (대기열이 비어있으면 다음 취소 시각까지 대기)
+     */
+    private void runWorker() {
+        List<PendingOrder> expiredList = new ArrayList<>();
+        List<Integer> orderIdList = new ArrayList<>();
 
-            for (OrderEntity orderEntity : orderEntityList) {
-                try {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                expiredList.add(pendingQueue.take());
+                pendingQueue.drainTo(expiredList, BATCH_SIZE - 1);   // 같이 만료된 주문은 묶어서 처리
 
-                    int updated = 
-                        orderRepository.updateStatusWithScheduler(orderEntity.getOrderId(), "주문완료", "주문취소");
+                for (PendingOrder pending : expiredList) {
+                    orderIdList.add(pending.getOrderId());
+                }
 
-                    // 만약 updated 의 값이 0이라면 점주가 이미 해당 주문의 상태를 변경했다는 뜻.
-                    if (updated == 0) {
-                        log.info("주문 자동취소 실패 - 이미 처리된 주문 아이디: {}", orderEntity.getOrderId());
+                cancel(orderIdList);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                expiredList.clear();
+                orderIdList.clear();
+            }
+        }
+    }
 
-                        continue;
-                    }
+    /**
+     * 주문 일괄 취소
+     * @param orderIdList 주문 번호 리스트
+     */
+    private void cancel(List<Integer> orderIdList) {
+        try {
+            int count = orderService.cancelAndRefundExpired(orderIdList);
 
+            if (count > 0) {
+                log.info("주문 자동취소 완료 - 대상: {}건, 처리건수: {}", orderIdList.size(), count);
+            }
+        } catch (Exception e) {
+            log.error("주문 자동취소 실패 - 주문 아이디: {}", orderIdList, e);
+        }
+    }
 
-                    UserEntity userEntity = orderEntity.getUser();
+    private void register(int orderId, LocalDateTime orderDate) {
+        long deadline = orderDate.plusMinutes(timeoutMinutes).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
 
-                    // 사용자가 존재하는 경우에만 보유금 원복
-                    if (userEntity != null && "N".equals(userEntity.getDelYn())) {
-                        int originalDeposit = userEntity.getDeposit();
-                        int totalPrice = orderEntity.getTotalPrice();
+        pendingQueue.offer(new PendingOrder(orderId, deadline));
+    }
 
-                        userEntity.setDeposit(originalDeposit + totalPrice);  // 주문이 취소되었기 때문에 보유금 원복
+    /**
+     * 자동 취소 대기 주문 (취소 시각이 되면 DelayQueue 에서 꺼낼 수 있음)
+     */
+    static class PendingOrder implements Delayed {
 
-                        userRepository.save(userEntity);
+        private final int orderId;
+        private final long deadline;   // 취소 시각 (epoch millis)
 
-                        String message = "주문이 취소됐습니다.";
-                        eventPublisher.publishEvent(new OrderStatusChangedEvent(userEntity.getUserId(), message));
-                    }
+        PendingOrder(int orderId, long deadline) {
+            this.orderId = orderId;
+            this.deadline = deadline;
+        }
 
-                    count++;
-                } catch (Exception e) {
-                    log.error("주문 자동취소 실패 - 주문 아이디: {}", orderEntity.getOrderId());
-                }
-            }
+        int getOrderId() {
+            return orderId;
+        }
 
-            log.info("주문 자동취소 스케줄러 완료 - 처리건수: {}", count);
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
 
-        } catch (Exception e) {
-            log.error("주문 자동취소 스케줄러 실행 중 예외 발생", e);
-        } finally {
-            if (locked) {
-                lock.unlock();
-            }
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(deadline, ((PendingOrder) other).deadline);
         }
     }
 }
@@ -1,23 +1,19 @@
 package it.korea.app_bmpc.order.scheduler;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
-import java.util.stream.Collectors;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import it.korea.app_bmpc.order.entity.OrderEntity;
+import it.korea.app_bmpc.common.lock.SchedulerLock;
+import it.korea.app_bmpc.order.dto.OrderReviewRequestProjection;
 import it.korea.app_bmpc.order.event.ReviewRecommendEvent;
 import it.korea.app_bmpc.order.repository.OrderRepository;
 import it.korea.app_bmpc.order.service.OrderSseService;
-import it.korea.app_bmpc.review.repository.ReviewRepository;
-import it.korea.app_bmpc.user.entity.UserEntity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -25,6 +21,8 @@ import lombok.extern.slf4j.Slf4j;
  * 리뷰 요청 스케줄러
  * 주문이 배달완료로 변경된 후 1시간이 지난 주문들 가져오기
  * 해당 주문을 한 주문자에게 리뷰를 작성해달라고 SSE 알림 전송
+ *
+ * 리뷰 요청을 보낸 주문은 review_request_date 에 발송 일시를 남기므로 서버가 재시작되거나 다른 서버가 실행해도 다시 보내지 않는다.
  */
 @Slf4j
 @Component
@@ -32,95 +30,54 @@ import lombok.extern.slf4j.Slf4j;
 public class ReviewRecommendScheduler {
 
     private final OrderRepository orderRepository;
-    private final ReviewRepository reviewRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final OrderSseService orderSseService;
 
-    // 스케줄러 동시 실행 방지용 lock
-    private final ReentrantLock lock = new ReentrantLock();
-
-    // 이미 리뷰 요청을 보낸 주문의 아이디를 저장하는 Set
-    private final Set<Integer> orderIdSet = ConcurrentHashMap.newKeySet();
-
     /**
      * 배달완료 후 1시간 지난 주문자에게 리뷰 요청 SSE 전송하기
+     * (SSE 는 트랜잭션 커밋 후에 발송되므로 발송 표시가 저장된 주문만 알림이 나감)
      */
     //@Scheduled(fixedRate = 600000) // 10분마다 실행
     @Scheduled(initialDelay = 60000, fixedRate = 60000)  // 테스트를 위해 1분마다 실행. 추후 10분으로 교체해야함.
-    @Transactional(readOnly = true)
+    @SchedulerLock(name = "reviewRecommend", lockAtMostForMs = 300000, lockAtLeastForMs = 30000)
+    @Transactional
     public void sendReviewRequest() {
-        boolean locked = false;
-        int count = 0;
-
         try {
-            locked = lock.tryLock();
-            if (!locked) {
-                return;
-            }
-
             log.info("리뷰 요청 스케줄러 시작");
 
             LocalDateTime now = LocalDateTime.now();
             LocalDateTime endTime = now.minusHours(1).minusMinutes(5); 
             LocalDateTime startTime = now.minusHours(2).minusMinutes(5); 
 
-            List<OrderEntity> orderEntityList = orderRepository.findByStatusAndOrderDateBetween("배달완료", startTime, endTime);
+            // 리뷰가 없고 아직 리뷰 요청을 보내지 않은 주문만 조회
+            List<OrderReviewRequestProjection> requestList =
+                orderRepository.findReviewRequestList("배달완료", startTime, endTime);
 
-            // 배딜완료된 주문이 없으면 바로 return
-            if (orderEntityList.isEmpty()) {
-                log.info("리뷰 요청 스케줄러 종료. 배달완료된 주문이 없음.");
+            if (requestList.isEmpty()) {
+                log.info("리뷰 요청 스케줄러 종료. 리뷰 요청할 주문이 없음.");
                 return;
             }
 
-            // 리뷰가 존재하는 주문(배달완료된) 아이디 리스트
-            List<Integer> reviewedOrderIdList = reviewRepository.findReviewedOrderIdList(orderEntityList);
+            String message = "배달 음식은 잘 드셨나요?\n리뷰를 남겨주세요.";
+            List<Integer> sentOrderIdList = new ArrayList<>();
 
-            for (OrderEntity orderEntity : orderEntityList) {
-                int orderId = orderEntity.getOrderId();
-
-                // 이미 리뷰가 작성된 주문이거나, 이미 리뷰 요청을 보낸 주문은 건너뛰기
-                if (reviewedOrderIdList.contains(orderId) || orderIdSet.contains(orderId)) {
+            for (OrderReviewRequestProjection request : requestList) {
+                // SSE 미연결 사용자는 표시하지 않고 다음 실행에서 다시 시도
+                if (!orderSseService.isConnected(request.getUserId())) {
+                    log.info("SSE 미연결 상태 - 사용자 아이디: {}", request.getUserId());
                     continue;
                 }
 
-                try {
-                    UserEntity userEntity = orderEntity.getUser();
-                    if (userEntity != null && "N".equals(userEntity.getDelYn())) {
-                        String message = "배달 음식은 잘 드셨나요?\n리뷰를 남겨주세요.";
-
-                        if (orderSseService.isConnected(userEntity.getUserId())) {
-                            eventPublisher.publishEvent(new ReviewRecommendEvent(userEntity.getUserId(), message));
-                            count++;
-
-                            // SSE 발송을 완료한 주문의 아이디는 맵에 저장
-                            orderIdSet.add(orderId);
-                        } else {
-                            log.info("SSE 미연결 상태 - 사용자 아이디: {}", userEntity.getUserId());
-                        }
-                    }
-                } catch (Exception e) {
-                    log.error("리뷰 요청 전송 실패 - 주문 아이디: {}", orderId);
-                }
+                eventPublisher.publishEvent(new ReviewRecommendEvent(request.getUserId(), message));
+                sentOrderIdList.add(request.getOrderId());
             }
 
-            log.info("리뷰 요청 스케줄러 완료 - 전송건수: {}", count);
-
-            // 2시간 이상 지난 주문은 Set에서 제거하기
-            try {
-                List<OrderEntity> oldOrderEntityList = orderRepository.findByStatusAndOrderDateBefore("배달완료", startTime);
-                Set<Integer> oldOrderIdList = oldOrderEntityList.stream().map(OrderEntity::getOrderId).collect(Collectors.toSet());
-
-                orderIdSet.removeAll(oldOrderIdList);
-            } catch (Exception e) {
-                log.warn("2시간 이상 지난 주문의 아이디 정보를 Set에서 정리 중 오류 발생", e);
-            }
+            // 발송한 주문은 한 번에 발송 표시
+            int count = sentOrderIdList.isEmpty() ? 0 : orderRepository.updateReviewRequestDate(sentOrderIdList, now);
 
+            log.info("리뷰 요청 스케줄러 완료 - 전송건수: {}", count);
         } catch (Exception e) {
             log.error("리뷰 요청 스케줄러 실행 중 예외 발생", e);
-        } finally {
-            if (locked) {
-                lock.unlock();
-            }
         }
     }
 }
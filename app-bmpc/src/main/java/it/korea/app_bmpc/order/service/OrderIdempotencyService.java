@@ -0,0 +1,229 @@
+package it.korea.app_bmpc.order.service;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import it.korea.app_bmpc.common.lock.SchedulerLock;
+import it.korea.app_bmpc.order.entity.OrderIdempotencyEntity;
+import it.korea.app_bmpc.order.repository.OrderIdempotencyRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 멱등키(Idempotency-Key) 처리 서비스
+ * 같은 사용자가 같은 키로 다시 주문하면 주문을 다시 실행하지 않고 처음 만들어진 주문 번호를 돌려준다.
+ * 처리된 키는 메모리 캐시에 먼저 확인하고, 없으면 DB 테이블(다른 서버에서 처리된 키, 재기동 이후)을 확인한다.
+ * 키와 함께 요청 본문의 해시를 저장해서, 같은 키를 다른 주문 내용으로 다시 쓰면 기존 주문을 돌려주지 않고 422 로 거절한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final OrderIdempotencyRepository orderIdempotencyRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.idempotency.max-size:100000}")
+    private long maxSize;   // 메모리에 들고 있을 최대 키 개수
+
+    @Value("${order.idempotency.ttl-hours:24}")
+    private long ttlHours;  // 멱등키 유지 시간(시간)
+
+    private Cache<String, CachedResult> resultCache;   // 사용자 아이디:멱등키 -> 주문 번호, 요청 해시
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        resultCache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofHours(ttlHours))
+            .build();
+
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 멱등키로 주문 실행
+     * 키를 먼저 저장하고 같은 트랜잭션 안에서 주문을 실행하므로, 주문이 실패하면 키도 같이 롤백된다.
+     * 같은 키로 동시에 들어온 요청은 unique 제약조건에서 먼저 들어온 요청이 끝날 때까지 기다린 뒤 그 결과를 받는다.
+     * @param userId 사용자 아이디
+     * @param idempotencyKey 멱등키 (없으면 그냥 주문 실행)
+     * @param request 주문 요청 본문 (같은 키로 다른 요청이 들어왔는지 확인용)
+     * @param action 주문 실행 (주문 번호 반환)
+     * @return
+     * @throws Exception
+     */
+    public IdempotentResult execute(String userId, String idempotencyKey, Object request, Callable<Integer> action) throws Exception {
+        if (StringUtils.isBlank(idempotencyKey)) {
+            return new IdempotentResult(action.call(), false);
+        }
+
+        String key = idempotencyKey.trim();
+
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new RuntimeException("Idempotency-Key 는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String requestHash = hash(request);
+        String cacheKey = userId + ":" + key;
+        CachedResult cachedResult = resultCache.getIfPresent(cacheKey);
+
+        if (cachedResult != null) {
+            checkRequestHash(cachedResult.getRequestHash(), requestHash);
+
+            log.info("주문 멱등키 재요청. 기존 주문 반환. 사용자: {}, 주문 번호: {}", userId, cachedResult.getOrderId());
+            return new IdempotentResult(cachedResult.getOrderId(), true);
+        }
+
+        IdempotentResult result = null;
+
+        try {
+            result = transactionTemplate.execute(status -> {
+                Optional<OrderIdempotencyEntity> existing = orderIdempotencyRepository.findByUserIdAndIdemKey(userId, key);
+
+                if (existing.isPresent()) {
+                    checkRequestHash(existing.get().getRequestHash(), requestHash);
+
+                    return new IdempotentResult(existing.get().getOrderId(), true);
+                }
+
+                OrderIdempotencyEntity entity = new OrderIdempotencyEntity();
+                entity.setUserId(userId);
+                entity.setIdemKey(key);
+                entity.setRequestHash(requestHash);
+                entity.setCreateDate(LocalDateTime.now());
+
+                try {
+                    orderIdempotencyRepository.saveAndFlush(entity);   // 같은 키로 동시에 들어온 요청은 여기서 대기
+                } catch (DataIntegrityViolationException e) {
+                    throw new DuplicateKeyException(e);
+                }
+
+                entity.setOrderId(call(action));
+
+                return new IdempotentResult(entity.getOrderId(), false);
+            });
+        } catch (DuplicateKeyException e) {
+            // 같은 키로 동시에 들어온 요청이 먼저 주문을 끝냄 (주문 실행 중 난 제약조건 오류는 그대로 던짐)
+            OrderIdempotencyEntity existing = orderIdempotencyRepository.findByUserIdAndIdemKey(userId, key)
+                .orElseThrow(() -> new RuntimeException("같은 주문 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."));
+
+            checkRequestHash(existing.getRequestHash(), requestHash);
+
+            result = new IdempotentResult(existing.getOrderId(), true);
+        }
+
+        if (result.isReplayed()) {
+            log.info("주문 멱등키 재요청. 기존 주문 반환. 사용자: {}, 주문 번호: {}", userId, result.getOrderId());
+        }
+
+        resultCache.put(cacheKey, new CachedResult(result.getOrderId(), requestHash));
+
+        return result;
+    }
+
+    /**
+     * 유지 시간이 지난 멱등키 삭제 (1시간마다)
+     */
+    @Scheduled(fixedRate = 3600000, initialDelay = 3600000)
+    @SchedulerLock(name = "orderIdempotencyCleanup", lockAtMostForMs = 600000, lockAtLeastForMs = 60000)
+    @Transactional
+    public void deleteExpiredKey() {
+        int count = orderIdempotencyRepository.deleteByCreateDateBefore(LocalDateTime.now().minusHours(ttlHours));
+
+        if (count > 0) {
+            log.info("만료된 주문 멱등키 삭제. 삭제 수: {}", count);
+        }
+    }
+
+    /**
+     * 요청 본문 해시 구하기 (요청 타입 + JSON 의 SHA-256)
+     * @param request 요청 본문
+     * @return
+     * @throws Exception
+     */
+    private String hash(Object request) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+        digest.update(request.getClass().getName().getBytes());
+        digest.update(objectMapper.writeValueAsBytes(request));
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 저장된 요청 해시와 이번 요청 해시 비교 (해시가 없는 이전 키는 통과)
+     * @param storedHash 저장된 요청 해시
+     * @param requestHash 이번 요청 해시
+     */
+    private void checkRequestHash(String storedHash, String requestHash) {
+        if (storedHash != null && !storedHash.equals(requestHash)) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                "같은 Idempotency-Key 로 다른 주문 요청을 보낼 수 없습니다.");
+        }
+    }
+
+    /**
+     * 트랜잭션 콜백 안에서 주문 실행 (checked 예외는 RuntimeException 으로 감싸서 롤백되도록 함)
+     * @param action 주문 실행
+     * @return
+     */
+    private Integer call(Callable<Integer> action) {
+        try {
+            return action.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class IdempotentResult {
+        private final int orderId;
+        private final boolean replayed;   // 기존 주문을 돌려준 것인지 여부
+    }
+
+    /**
+     * 멱등키 저장시 unique 제약조건 위반 (주문 실행 중 난 DataIntegrityViolationException 과 구분하기 위함)
+     */
+    private static class DuplicateKeyException extends RuntimeException {
+        DuplicateKeyException(Throwable cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class CachedResult {
+        private final int orderId;
+        private final String requestHash;
+    }
+}
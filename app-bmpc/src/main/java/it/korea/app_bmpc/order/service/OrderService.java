@@ -19,11 +19,13 @@ import it.korea.app_bmpc.menu.entity.MenuOptionEntity;
 import it.korea.app_bmpc.menu.repository.MenuOptionRepository;
 import it.korea.app_bmpc.menu.repository.MenuRepository;
 import it.korea.app_bmpc.order.dto.OrderDTO;
+import it.korea.app_bmpc.order.dto.OrderRefundProjection;
 import it.korea.app_bmpc.order.dto.OrderSearchDTO;
 import it.korea.app_bmpc.order.dto.OrderStatusDTO;
 import it.korea.app_bmpc.order.entity.OrderEntity;
 import it.korea.app_bmpc.order.entity.OrderItemEntity;
 import it.korea.app_bmpc.order.entity.OrderItemOptionEntity;
+import it.korea.app_bmpc.order.event.OrderPlacedEvent;
 import it.korea.app_bmpc.order.event.OrderStatusChangedEvent;
 import it.korea.app_bmpc.order.repository.OrderRepository;
 import it.korea.app_bmpc.order.repository.OrderSearchSpecification;
@@ -275,11 +277,11 @@ public class OrderService {
     /**
      * 메뉴 주문하기
      * @param request 주문 객체
-     * @return
+     * @return 주문 번호
      * @throws Exception
      */
     @Transactional
-    public void orderMenu(OrderDTO.Request request) throws Exception {
+    public int orderMenu(OrderDTO.Request request) throws Exception {
       
         // 주문할 메뉴가 없으면 예외 발생
         if (request.getMenuList() == null || request.getMenuList().isEmpty()) {
@@ -329,7 +331,6 @@ public class OrderService {
 
         // 주문 항목 구성
         int totalOrderPrice = 0;
-        int originalDeposit = userEntity.getDeposit();
 
         for (OrderDTO.InnerRequest innerRequest : request.getMenuList()) {
             MenuEntity menuEntity = menuMap.get(innerRequest.getMenuId());
@@ -393,18 +394,20 @@ public class OrderService {
         StoreEntity store = menuList.get(0).getMenuCategory().getStore();
         orderEntity.setStore(store);
 
-        // 총 주문 금액 검증
-        if (totalOrderPrice > originalDeposit) {
+        // 보유금 차감 (잔액이 충분할 때만 DB 에서 바로 차감하므로 동시에 주문해도 잔액 이상 빠져나가지 않음)
+        if (userRepository.debitDeposit(userEntity.getUserId(), totalOrderPrice) == 0) {
             throw new RuntimeException("총 주문 금액이 보유금을 초과했습니다.");
         }
 
-        // 보유금 차감
-        userEntity.setDeposit(originalDeposit - totalOrderPrice);
         orderEntity.setTotalPrice(totalOrderPrice);
 
         // 주문 저장
         orderRepository.save(orderEntity);
 
+        // 자동 취소 대기열에 등록 (커밋 이후 등록됨)
+        eventPublisher.publishEvent(new OrderPlacedEvent(orderEntity.getOrderId(), orderEntity.getOrderDate()));
+
+        return orderEntity.getOrderId();
     }
 
     /**
@@ -443,35 +446,109 @@ public class OrderService {
             throw new RuntimeException("주문자가 존재하지 않습니다.");
         }
 
-        orderEntity.setStatus(statusDTO.getNewStatus());
+        // 자동 취소, 가게 폐업 취소와 동시에 처리되지 않도록 주문완료 상태일 때만 변경 (변경된 경우에만 보유금/수익 반영)
+        int updated = orderRepository.updateStatusByOrderIdList(List.of(orderEntity.getOrderId()), "주문완료", statusDTO.getNewStatus());
+
+        if (updated != 1) {
+            throw new RuntimeException("주문완료 외 상태인 주문은 변경할 수 없습니다.");
+        }
 
         String message = "";
 
         if ("주문취소".equals(statusDTO.getNewStatus())) {  // 주문취소일 경우...
-            int originalDeposit = userEntity.getDeposit();
-            int totalPrice = orderEntity.getTotalPrice();
-
-            userEntity.setDeposit(originalDeposit + totalPrice);  // 주문이 취소되었기 때문에 보유금 원상복구
-
-            userRepository.save(userEntity);
+            userRepository.creditDeposit(userEntity.getUserId(), orderEntity.getTotalPrice());  // 주문이 취소되었기 때문에 보유금 원상복구
 
             message = "주문이 취소됐습니다.";
         } else if ("배달완료".equals(statusDTO.getNewStatus())) {  // 배달완료일 경우...
-            int ownerBalance = ownerEntity.getBalance();
-            int totalPrice = orderEntity.getTotalPrice();
-
-            ownerEntity.setBalance(ownerBalance + totalPrice);   // 주문이 수락되었기 때문에 점주 수익 반영
-            userRepository.save(ownerEntity);
+            userRepository.creditBalance(ownerEntity.getUserId(), orderEntity.getTotalPrice());   // 주문이 수락되었기 때문에 점주 수익 반영
 
             message = "주문이 수락됐습니다.";
         }
 
-        orderRepository.save(orderEntity);
-        
         // 주문자에게 주문 상태 변경 알림을 SSE로 보냄
         eventPublisher.publishEvent(new OrderStatusChangedEvent(userEntity.getUserId(), message));
     }
 
+    /**
+     * 가게의 주문완료 상태 주문을 모두 취소하고 주문자 보유금 환불하기 (가게 폐업시)
+     * 주문마다 저장하지 않고 상태 변경 update 한 번, 주문자별 보유금 update 한 번씩으로 처리한다.
+     * @param storeId 가게 아이디
+     * @return 취소된 주문 수
+     * @throws Exception
+     */
+    @Transactional
+    public int cancelAndRefundAllByStore(int storeId) throws Exception {
+
+        List<OrderRefundProjection> refundList = orderRepository.findRefundListForUpdate(storeId, "주문완료");
+
+        int canceledCount = cancelAndRefund(refundList, "가게 사정으로 ");
+
+        log.info("가게 {}번 주문 일괄 취소. 주문: {}건", storeId, canceledCount);
+
+        return canceledCount;
+    }
+
+    /**
+     * 수락 대기 시간이 지난 주문들을 한 번에 취소하고 주문자 보유금 환불하기 (주문 자동 취소)
+     * 그 사이 점주가 수락한 주문은 주문완료 상태가 아니므로 제외된다.
+     * @param orderIdList 주문 번호 리스트
+     * @return 취소된 주문 수
+     * @throws Exception
+     */
+    @Transactional
+    public int cancelAndRefundExpired(List<Integer> orderIdList) throws Exception {
+
+        if (orderIdList.isEmpty()) {
+            return 0;
+        }
+
+        List<OrderRefundProjection> refundList = orderRepository.findRefundListByOrderIdListForUpdate(orderIdList, "주문완료");
+
+        return cancelAndRefund(refundList, "");
+    }
+
+    /**
+     * 잠금 조회한 주문들의 상태를 update 한 번으로 주문취소로 바꾸고, 주문자별로 보유금을 한 번씩 환불
+     * @param refundList 취소할 주문 리스트
+     * @param reason 여러 건 취소 알림 앞에 붙일 사유
+     * @return 취소된 주문 수
+     */
+    private int cancelAndRefund(List<OrderRefundProjection> refundList, String reason) {
+
+        if (refundList.isEmpty()) {
+            return 0;
+        }
+
+        List<Integer> orderIdList = refundList.stream().map(OrderRefundProjection::getOrderId).toList();
+
+        int canceledCount = orderRepository.updateStatusByOrderIdList(orderIdList, "주문완료", "주문취소");
+
+        // 주문자별 환불 금액, 취소 건수 합치기
+        Map<String, Integer> refundAmountMap = new HashMap<>();
+        Map<String, Integer> refundCountMap = new HashMap<>();
+
+        for (OrderRefundProjection refund : refundList) {
+            refundAmountMap.merge(refund.getUserId(), refund.getTotalPrice(), Integer::sum);
+            refundCountMap.merge(refund.getUserId(), 1, Integer::sum);
+        }
+
+        refundAmountMap.forEach((refundUserId, amount) -> {
+            // 보유금 원복 (탈퇴한 주문자는 환불, 알림 모두 생략)
+            if (userRepository.refundDeposit(refundUserId, amount) == 0) {
+                refundCountMap.remove(refundUserId);
+            }
+        });
+
+        // 주문자에게 주문 취소 알림을 SSE로 보냄 (커밋 이후 발송됨)
+        refundCountMap.forEach((refundUserId, count) ->
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(refundUserId,
+                count > 1 ? reason + "주문 " + count + "건이 취소됐습니다." : "주문이 취소됐습니다.")));
+
+        log.info("주문 일괄 취소. 주문: {}건, 환불 주문자: {}명", canceledCount, refundCountMap.size());
+
+        return canceledCount;
+    }
+
     /**
      * 가게 기간별 매출 통계 구하기
      * @param storeId 가게 아이디
@@ -0,0 +1,17 @@
+package it.korea.app_bmpc.popular.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 로그 버퍼에 쌓아두는 검색 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class SearchLogEventDTO {
+
+    private final String keyword;               // 검색어
+    private final LocalDateTime searchDate;     // 검색 시간
+}
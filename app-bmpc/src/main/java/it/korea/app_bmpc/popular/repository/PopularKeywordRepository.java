@@ -1,5 +1,6 @@
 package it.korea.app_bmpc.popular.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,4 +10,6 @@ import it.korea.app_bmpc.popular.entity.PopularKeywordEntity;
 public interface PopularKeywordRepository extends JpaRepository<PopularKeywordEntity, Integer> {
 
     Optional<PopularKeywordEntity> findByKeyword(String keyword);
+
+    List<PopularKeywordEntity> findTop1000ByOrderBySearchCountDesc();
 }
@@ -0,0 +1,60 @@
+package it.korea.app_bmpc.popular.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import it.korea.app_bmpc.popular.dto.SearchLogEventDTO;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색 로그, 인기 검색어 요약을 JDBC 배치로 한 번에 저장하는 레포지토리
+ * (JPA 로 한 건씩 insert/update 하면 건수만큼 쿼리가 나가기 때문)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchLogBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 검색 로그 한 번에 저장
+     * @param eventList 검색 이벤트 리스트
+     */
+    public void insertSearchLogList(List<SearchLogEventDTO> eventList) {
+        List<Object[]> argList = new ArrayList<>();
+
+        for (SearchLogEventDTO event : eventList) {
+            argList.add(new Object[] { event.getKeyword(), Timestamp.valueOf(event.getSearchDate()) });
+        }
+
+        jdbcTemplate.batchUpdate("insert into bmpc_search_log (search_text, create_date) values (?, ?)", argList);
+    }
+
+    /**
+     * 인기 검색어 요약의 검색 횟수를 한 번에 증가 (없으면 새로 등록)
+     * @param countMap <검색어, 증가시킬 검색 횟수>
+     * @param searchDate 마지막 검색일
+     */
+    public void upsertPopularKeywordList(Map<String, Long> countMap, LocalDateTime searchDate) {
+        List<Object[]> argList = new ArrayList<>();
+        Timestamp timestamp = Timestamp.valueOf(searchDate);
+
+        for (Map.Entry<String, Long> entry : countMap.entrySet()) {
+            argList.add(new Object[] { entry.getKey(), entry.getValue(), timestamp, entry.getValue(), timestamp });
+        }
+
+        jdbcTemplate.batchUpdate("""
+                insert into bmpc_popular_keyword (keyword, search_count, last_search_date)
+                values (?, ?, ?)
+                on duplicate key update
+                    search_count = search_count + ?,
+                    last_search_date = ?
+            """, argList);
+    }
+}
@@ -10,6 +10,7 @@ import java.util.stream.Collectors;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import it.korea.app_bmpc.common.lock.SchedulerLock;
 import it.korea.app_bmpc.popular.dto.SearchLogProjection;
 import it.korea.app_bmpc.popular.entity.PopularKeywordEntity;
 import it.korea.app_bmpc.popular.entity.PopularKeywordStatsEntity;
@@ -37,6 +38,7 @@ public class PopularKeywordStatsScheduler {
 
     //@Scheduled(cron = "0 0 1 * * *") // 매일 새벽 1시
     @Scheduled(cron = "0 */1 * * * *") // 1분마다 실행 (테스트용). 추후 새벽 1시로 바꿔야함
+    @SchedulerLock(name = "popularKeywordStats", lockAtMostForMs = 600000, lockAtLeastForMs = 30000)
     @Transactional
     public void createDailyPopularKeywordStats() {
 
@@ -0,0 +1,111 @@
+package it.korea.app_bmpc.popular.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import it.korea.app_bmpc.popular.repository.SearchLogBatchRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인기 검색어 검색 횟수 카운터
+ * 검색할 때마다 인기 검색어 요약 행을 조회/수정하지 않고 메모리의 LongAdder 로 누적해두었다가,
+ * 주기적으로 늘어난 만큼만 한 번의 배치 upsert 로 반영한다.
+ *
+ * 증가와 반영 대상 분리는 모두 counterMap.compute 안에서 처리하므로, 분리된 카운터에는 더 이상 증가가 들어오지 않는다.
+ * 배치 upsert 는 한 트랜잭션으로 처리해서 일부만 반영되는 일이 없고, 실패하면 분리한 횟수를 다시 카운터에 돌려놓는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PopularKeywordCounterService {
+
+    private final SearchLogBatchRepository searchLogBatchRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<String, LongAdder> counterMap = new ConcurrentHashMap<>();
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 검색 횟수 증가
+     * @param keyword 검색어
+     */
+    public void increment(String keyword) {
+        add(keyword, 1);
+    }
+
+    /**
+     * 지난 반영 이후 늘어난 검색 횟수를 DB 에 반영
+     * 반영할 카운터를 맵에서 떼어낸 뒤 반영하고, 반영에 실패하면 떼어낸 횟수를 다시 더해서 다음 주기에 반영된다.
+     */
+    @Scheduled(fixedDelayString = "${popular.keyword.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<String, Long> deltaMap = new HashMap<>();
+
+        for (String keyword : new ArrayList<>(counterMap.keySet())) {
+            LongAdder[] detached = new LongAdder[1];
+
+            // 맵에서 떼어낸 카운터는 더 이상 증가되지 않으므로 합계가 곧 이번에 반영할 횟수
+            counterMap.compute(keyword, (key, adder) -> {
+                detached[0] = adder;
+                return null;
+            });
+
+            if (detached[0] != null) {
+                long delta = detached[0].sumThenReset();
+
+                if (delta > 0) {
+                    deltaMap.put(keyword, delta);
+                }
+            }
+        }
+
+        if (deltaMap.isEmpty()) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+
+            transactionTemplate.executeWithoutResult(status -> searchLogBatchRepository.upsertPopularKeywordList(deltaMap, now));
+        } catch (Exception e) {
+            log.error("인기 검색어 검색 횟수 반영 중 오류 발생. 다음 주기에 다시 반영", e);
+
+            // 트랜잭션이 롤백됐으므로 떼어낸 횟수를 그대로 돌려놓음
+            deltaMap.forEach(this::add);
+        }
+    }
+
+    /**
+     * 종료 전에 남아있는 검색 횟수 반영
+     */
+    @PreDestroy
+    public void destroy() {
+        flush();
+    }
+
+    private void add(String keyword, long count) {
+        counterMap.compute(keyword, (key, adder) -> {
+            LongAdder counter = adder != null ? adder : new LongAdder();
+            counter.add(count);
+            return counter;
+        });
+    }
+}
@@ -0,0 +1,96 @@
+package it.korea.app_bmpc.popular.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import it.korea.app_bmpc.popular.dto.SearchLogEventDTO;
+import it.korea.app_bmpc.popular.repository.SearchLogBatchRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색 로그 버퍼
+ * 가게 검색 요청에서는 검색어를 메모리 큐에 넣기만 하고,
+ * 백그라운드 스케줄러가 주기적으로 꺼내서 검색 로그를 배치로 저장한다.
+ * (인기 검색어 검색 횟수는 버퍼가 가득 차도 유실되지 않도록 PopularKeywordCounterService 에서 따로 집계)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchLogBufferService {
+
+    private final SearchLogBatchRepository searchLogBatchRepository;
+
+    @Value("${search.log.buffer-size:10000}")
+    private int bufferSize;   // 버퍼에 쌓아둘 수 있는 최대 검색 이벤트 수
+
+    @Value("${search.log.batch-size:1000}")
+    private int batchSize;    // 한 번에 저장할 최대 검색 이벤트 수
+
+    private BlockingQueue<SearchLogEventDTO> eventQueue;
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        eventQueue = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    /**
+     * 검색 이벤트 추가
+     * 버퍼가 가득 찼다면 검색 요청을 기다리게 하지 않고 버린다.
+     * @param keyword 검색어
+     */
+    public void add(String keyword) {
+        if (!eventQueue.offer(new SearchLogEventDTO(keyword, LocalDateTime.now()))) {
+            long count = droppedCount.incrementAndGet();
+
+            if (count % 1000 == 1) {
+                log.warn("검색 로그 버퍼가 가득 차서 검색 로그를 버림. 누적 {}건", count);
+            }
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 검색 이벤트를 배치로 저장
+     */
+    @Scheduled(fixedDelayString = "${search.log.flush-interval-ms:1000}")
+    public void flush() {
+        List<SearchLogEventDTO> eventList = new ArrayList<>(batchSize);
+
+        try {
+            while (eventQueue.drainTo(eventList, batchSize) > 0) {
+                save(eventList);
+                eventList.clear();
+            }
+        } catch (Exception e) {
+            // 저장 실패한 배치는 버리고 다음 주기에 이어서 진행 (검색 로그는 통계용이므로 유실 허용)
+            log.error("검색 로그 배치 저장 중 오류 발생. {}건 유실", eventList.size(), e);
+        }
+    }
+
+    /**
+     * 종료 전에 남아있는 검색 이벤트 저장
+     */
+    @PreDestroy
+    public void destroy() {
+        flush();
+    }
+
+    /**
+     * 검색 로그 insert
+     * @param eventList 검색 이벤트 리스트
+     */
+    private void save(List<SearchLogEventDTO> eventList) {
+        searchLogBatchRepository.insertSearchLogList(eventList);
+    }
+}
@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -30,6 +31,7 @@ import it.korea.app_bmpc.review.repository.ReviewReplyRepository;
 import it.korea.app_bmpc.review.repository.ReviewRepository;
 import it.korea.app_bmpc.review.repository.ReviewSearchSpecification;
 import it.korea.app_bmpc.store.entity.StoreEntity;
+import it.korea.app_bmpc.store.event.StoreChangedEvent;
 import it.korea.app_bmpc.store.repository.StoreRepository;
 import it.korea.app_bmpc.user.entity.UserEntity;
 import it.korea.app_bmpc.user.repository.UserRepository;
@@ -49,6 +51,7 @@ public class ReviewService {
     private final OrderRepository orderRepository;
     private final StoreRepository storeRepository;
     private final FileUtils fileUtils;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 가게의 리뷰 리스트 가져오기
@@ -429,6 +432,8 @@ public class ReviewService {
         storeEntity.setReviewCount(reviewCount != null ? reviewCount.intValue() : 0);
 
         storeRepository.save(storeEntity);
+
+        eventPublisher.publishEvent(new StoreChangedEvent(storeEntity.getStoreId()));
     }
 
     /**
@@ -3,7 +3,11 @@ package it.korea.app_bmpc.store.controller;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
@@ -17,29 +21,44 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import it.korea.app_bmpc.common.dto.ApiResponse;
+import it.korea.app_bmpc.kakao.service.KakaoAddressService;
 import it.korea.app_bmpc.store.dto.CategoryDTO;
 import it.korea.app_bmpc.store.dto.StoreDTO;
 import it.korea.app_bmpc.store.dto.StoreSearchDTO;
+import it.korea.app_bmpc.store.service.StoreAutocompleteService;
 import it.korea.app_bmpc.store.service.StoreService;
 import it.korea.app_bmpc.user.dto.OwnerResponseDTO;
 import it.korea.app_bmpc.user.dto.UserSecureDTO;
 import it.korea.app_bmpc.user.service.UserService;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
 
 @Tag(name = "가게 API", description = "회원 관리, 리뷰 관리 등 어드민 기능 API")
 @RestController
-@RequiredArgsConstructor
 @RequestMapping("/api/v1")
 public class StoreApiController {
 
     private final StoreService storeService;
     private final UserService userService;
+    private final KakaoAddressService kakaoAddressService;
+    private final StoreAutocompleteService storeAutocompleteService;
+    private final Executor storeSearchExecutor;
+
+    public StoreApiController(StoreService storeService, UserService userService,
+            KakaoAddressService kakaoAddressService,
+            StoreAutocompleteService storeAutocompleteService,
+            @Qualifier("storeSearchExecutor") Executor storeSearchExecutor) {
+        this.storeService = storeService;
+        this.userService = userService;
+        this.kakaoAddressService = kakaoAddressService;
+        this.storeAutocompleteService = storeAutocompleteService;
+        this.storeSearchExecutor = storeSearchExecutor;
+    }
     
     /**
      * 가게 카테고리 리스트 가져오기
@@ -64,13 +83,116 @@ public class StoreApiController {
      */
     @GetMapping("/store")
     @Operation(summary = "가게 리스트 가져오기")
-    public ResponseEntity<?> getStoreList(@PageableDefault(page = 0, size = 10, 
+    public CompletableFuture<ResponseEntity<?>> getStoreList(@PageableDefault(page = 0, size = 10, 
             sort = "updateDate", direction = Direction.DESC) Pageable pageable,
             @Valid StoreSearchDTO searchDTO) throws Exception {
 
-        Map<String, Object> resultMap = storeService.getStoreList(pageable, searchDTO);
+        // 카카오 API 로 사용자 주소의 위도/경도를 얻는 동안 요청 스레드는 반환하고,
+        // 좌표가 준비되면 별도 스레드풀에서 가게 목록 조회를 이어서 처리
+        return kakaoAddressService.getLocationAsync(searchDTO.getAddr())
+            .<ResponseEntity<?>>thenApplyAsync(optResponse -> {
+                try {
+                    Map<String, Object> resultMap = storeService.getStoreList(pageable, searchDTO, optResponse);
 
-        return ResponseEntity.ok().body(ApiResponse.ok(resultMap));
+                    return ResponseEntity.ok().body(ApiResponse.ok(resultMap));
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, storeSearchExecutor);
+    }
+
+    /**
+     * 가게 리스트 가져오기 (무한 스크롤)
+     * @param searchDTO 검색 내용
+     * @param sortType 정렬 기준 (distance, rating, id)
+     * @param cursor 이전 응답의 nextCursor
+     * @param size 가져올 가게 수
+     * @return
+     * @throws Exception
+     */
+    @GetMapping("/store/scroll")
+    @Operation(summary = "가게 리스트 가져오기 (무한 스크롤)")
+    public CompletableFuture<ResponseEntity<?>> getStoreListByCursor(@Valid StoreSearchDTO searchDTO,
+            @RequestParam(name = "sortType", defaultValue = "distance") String sortType,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size) throws Exception {
+
+        return kakaoAddressService.getLocationAsync(searchDTO.getAddr())
+            .<ResponseEntity<?>>thenApplyAsync(optResponse -> {
+                try {
+                    Map<String, Object> resultMap = storeService.getStoreListByCursor(searchDTO, optResponse, sortType, cursor, size);
+
+                    return ResponseEntity.ok().body(ApiResponse.ok(resultMap));
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, storeSearchExecutor);
+    }
+
+    /**
+     * 가게 리스트 가져오기 (추천순)
+     * @param searchDTO 검색 내용
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return
+     * @throws Exception
+     */
+    @GetMapping("/store/ranked")
+    @Operation(summary = "가게 리스트 가져오기 (추천순)")
+    public CompletableFuture<ResponseEntity<?>> getStoreListByRank(@Valid StoreSearchDTO searchDTO,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size) throws Exception {
+
+        return kakaoAddressService.getLocationAsync(searchDTO.getAddr())
+            .<ResponseEntity<?>>thenApplyAsync(optResponse -> {
+                try {
+                    Map<String, Object> resultMap = storeService.getStoreListByRank(searchDTO, optResponse, page, size);
+
+                    return ResponseEntity.ok().body(ApiResponse.ok(resultMap));
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, storeSearchExecutor);
+    }
+
+    /**
+     * 사용자 주소 근처 인기 가게 리스트 가져오기
+     * @param addr 사용자 주소
+     * @param size 가져올 가게 수
+     * @return
+     * @throws Exception
+     */
+    @GetMapping("/store/popular/local")
+    @Operation(summary = "동네 인기 가게 리스트 가져오기")
+    public CompletableFuture<ResponseEntity<?>> getLocalPopularStoreList(@RequestParam(name = "addr") String addr,
+            @RequestParam(name = "size", defaultValue = "10") int size) throws Exception {
+
+        return kakaoAddressService.getLocationAsync(addr)
+            .<ResponseEntity<?>>thenApplyAsync(optResponse -> {
+                Map<String, Object> resultMap = new HashMap<>();
+                List<StoreDTO.Popular> dtoList = storeService.getLocalPopularStoreList(optResponse, size);
+
+                resultMap.put("content", dtoList);
+
+                return ResponseEntity.ok().body(ApiResponse.ok(resultMap));
+            }, storeSearchExecutor);
+    }
+
+    /**
+     * 검색어 자동완성 리스트 가져오기
+     * @param keyword 입력중인 검색어 (초성 가능)
+     * @param size 최대 개수
+     * @return
+     * @throws Exception
+     */
+    @GetMapping("/store/autocomplete")
+    @Operation(summary = "검색어 자동완성 리스트 가져오기")
+    public ResponseEntity<?> getAutocompleteList(@RequestParam(name = "keyword", defaultValue = "") String keyword,
+            @RequestParam(name = "size", defaultValue = "10") int size) throws Exception {
+
+        List<String> suggestionList = storeAutocompleteService.getSuggestionList(keyword, size);
+
+        return ResponseEntity.ok().body(ApiResponse.ok(suggestionList));
     }
 
     /**
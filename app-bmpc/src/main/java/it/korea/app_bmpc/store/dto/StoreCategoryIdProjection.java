@@ -0,0 +1,6 @@
+package it.korea.app_bmpc.store.dto;
+
+public interface StoreCategoryIdProjection {
+    Integer getStoreId();
+    Integer getCaId();
+}
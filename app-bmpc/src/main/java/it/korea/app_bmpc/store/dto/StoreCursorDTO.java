@@ -0,0 +1,48 @@
+package it.korea.app_bmpc.store.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 가게 리스트 무한 스크롤용 커서
+ * 마지막으로 내려준 가게의 정렬 값과 아이디를 담아서 클라이언트에는 알아볼 수 없는 문자열로 내려준다.
+ */
+@Getter
+@AllArgsConstructor
+public class StoreCursorDTO {
+
+    private static final String DELIMITER = "|";
+
+    private String sortType;    // 정렬 기준 (distance, rating, id)
+    private String sortValue;   // 마지막 가게의 정렬 값 (거리, 별점)
+    private int storeId;        // 마지막 가게 아이디
+
+    /**
+     * 커서 문자열로 변환
+     * @return
+     */
+    public String encode() {
+        String raw = sortType + DELIMITER + sortValue + DELIMITER + storeId;
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     * @param cursor 커서 문자열
+     * @return
+     */
+    public static StoreCursorDTO decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER, -1);
+
+            return new StoreCursorDTO(parts[0], parts[1], Integer.parseInt(parts[2]));
+        } catch (Exception e) {
+            throw new RuntimeException("잘못된 커서 값입니다.");
+        }
+    }
+}
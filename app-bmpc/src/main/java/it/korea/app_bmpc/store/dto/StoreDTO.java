@@ -125,7 +125,7 @@ public class StoreDTO {
         }
     }
 
-    @Builder
+    @Builder(toBuilder = true)
     @AllArgsConstructor
     @NoArgsConstructor
     @Getter
@@ -155,6 +155,21 @@ public class StoreDTO {
 
         public static Detail of(StoreEntity entity) {
 
+            List<MenuCategoryDTO.Response> menuCategoryList = 
+                entity.getMenuCategoryList().stream().filter(menuCategory -> "N".equals(menuCategory.getDelYn()))
+                    .map(MenuCategoryDTO.Response::of).toList();
+
+            return of(entity, menuCategoryList);
+        }
+
+        /**
+         * 메뉴 트리를 따로 조회한 경우 (엔티티의 메뉴 카테고리 리스트를 건드리지 않음)
+         * @param entity 가게 엔티티
+         * @param menuCategoryList 메뉴 카테고리 리스트
+         * @return
+         */
+        public static Detail of(StoreEntity entity, List<MenuCategoryDTO.Response> menuCategoryList) {
+
             // 파일 엔티티를 파일 DTO 로 객체 변환
             // 바로 이때 파일 리스트가 SELECT 된다.
             List<StoreFileDTO> fileList = 
@@ -164,9 +179,37 @@ public class StoreDTO {
             List<StoreCategoryDTO> categoryList = 
                 entity.getCategoryList().stream().map(StoreCategoryDTO::of).toList();
 
-            List<MenuCategoryDTO.Response> menuCategoryList = 
-                entity.getMenuCategoryList().stream().filter(menuCategory -> "N".equals(menuCategory.getDelYn()))
-                    .map(MenuCategoryDTO.Response::of).toList();
+            List<StoreHourDTO> hourList = entity.getHourList().stream().map(StoreHourDTO::of).toList();
+
+            return Detail.builder()
+                .storeId(entity.getStoreId())
+                .storeName(entity.getStoreName())
+                .branchName(entity.getBranchName())
+                .phone(entity.getPhone())
+                .addr(entity.getAddr())
+                .addrDetail(entity.getAddrDetail())
+                .ratingAvg(entity.getRatingAvg())
+                .reviewCount(entity.getReviewCount())
+                .minPrice(entity.getMinPrice())
+                .origin(entity.getOrigin())
+                .notice(entity.getNotice())
+                .delYn(entity.getDelYn())
+                .createDate(entity.getCreateDate())
+                .updateDate(entity.getUpdateDate())
+                .fileList(fileList)
+                .categoryList(categoryList)
+                .menuCategoryList(menuCategoryList)
+                .build()
+                .withBusinessHour(hourList);
+        }
+
+        /**
+         * 지금 시간 기준으로 영업 여부, 영업 코멘트, 영업 시간을 채운 복사본 만들기
+         * (캐시된 상세정보는 시간에 따라 바뀌는 값만 조회할 때마다 다시 계산)
+         * @param hourList 가게 영업시간 리스트
+         * @return
+         */
+        public Detail withBusinessHour(List<StoreHourDTO> hourList) {
 
             // 오늘 요일 구하기 (1=월, 2=화, ... 7=일)
             int today = LocalDate.now().getDayOfWeek().getValue();
@@ -174,8 +217,8 @@ public class StoreDTO {
             LocalTime now = LocalTime.now();
             
             Optional<StoreHourDTO> optionalDto = 
-                entity.getHourList().stream().filter((hour) ->
-                    hour.getDayOfWeek() == today).map(StoreHourDTO::of).findFirst();
+                hourList.stream().filter((hour) ->
+                    hour.getDayOfWeek() == today).findFirst();
 
             String hourComment = "";
             String businessHour = "";
@@ -205,24 +248,7 @@ public class StoreDTO {
                 }
             }
 
-            return Detail.builder()
-                .storeId(entity.getStoreId())
-                .storeName(entity.getStoreName())
-                .branchName(entity.getBranchName())
-                .phone(entity.getPhone())
-                .addr(entity.getAddr())
-                .addrDetail(entity.getAddrDetail())
-                .ratingAvg(entity.getRatingAvg())
-                .reviewCount(entity.getReviewCount())
-                .minPrice(entity.getMinPrice())
-                .origin(entity.getOrigin())
-                .notice(entity.getNotice())
-                .delYn(entity.getDelYn())
-                .createDate(entity.getCreateDate())
-                .updateDate(entity.getUpdateDate())
-                .fileList(fileList)
-                .categoryList(categoryList)
-                .menuCategoryList(menuCategoryList)
+            return this.toBuilder()
                 .isOpen(isOpen)
                 .hourComment(hourComment)
                 .businessHour(businessHour)
@@ -258,6 +284,21 @@ public class StoreDTO {
 
         public static OwnerDetail of(StoreEntity entity) {
 
+            List<MenuCategoryDTO.Response> menuCategoryList = 
+                entity.getMenuCategoryList().stream().filter(menuCategory -> "N".equals(menuCategory.getDelYn()))
+                    .map(MenuCategoryDTO.Response::of).toList();
+
+            return of(entity, menuCategoryList);
+        }
+
+        /**
+         * 메뉴 트리를 따로 조회한 경우 (엔티티의 메뉴 카테고리 리스트를 건드리지 않음)
+         * @param entity 가게 엔티티
+         * @param menuCategoryList 메뉴 카테고리 리스트
+         * @return
+         */
+        public static OwnerDetail of(StoreEntity entity, List<MenuCategoryDTO.Response> menuCategoryList) {
+
             // 파일 엔티티를 파일 DTO 로 객체 변환
             // 바로 이때 파일 리스트가 SELECT 된다.
             List<StoreFileDTO> fileList = 
@@ -267,10 +308,6 @@ public class StoreDTO {
             List<StoreCategoryDTO> categoryList = 
                 entity.getCategoryList().stream().map(StoreCategoryDTO::of).toList();
 
-            List<MenuCategoryDTO.Response> menuCategoryList = 
-                entity.getMenuCategoryList().stream().filter(menuCategory -> "N".equals(menuCategory.getDelYn()))
-                    .map(MenuCategoryDTO.Response::of).toList();
-
             List<StoreHourDTO> hourList =
                 entity.getHourList().stream().map(StoreHourDTO::of)
                     .sorted(Comparator.comparingInt(StoreHourDTO::getDayOfWeek)).toList();
@@ -308,12 +345,12 @@ public class StoreDTO {
         private String storeName;
         private int orderCount;
 
-        public static Popular of(StoreEntity entity, int orderCount) {
+        public static Popular of(StorePopularProjection projection) {
 
             return Popular.builder()
-                .storeId(entity.getStoreId())
-                .storeName(entity.getStoreName())
-                .orderCount(orderCount)
+                .storeId(projection.getStoreId())
+                .storeName(projection.getStoreName())
+                .orderCount(projection.getOrderCount().intValue())
                 .build();
         }
     }
@@ -0,0 +1,9 @@
+package it.korea.app_bmpc.store.dto;
+
+import java.math.BigDecimal;
+
+public interface StoreGeoProjection {
+    Integer getStoreId();
+    BigDecimal getLatitude();
+    BigDecimal getLongitude();
+}
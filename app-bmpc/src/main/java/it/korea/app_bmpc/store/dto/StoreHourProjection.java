@@ -0,0 +1,11 @@
+package it.korea.app_bmpc.store.dto;
+
+import java.time.LocalTime;
+
+public interface StoreHourProjection {
+    Integer getStoreId();
+    Integer getDayOfWeek();
+    LocalTime getOpenTime();
+    LocalTime getCloseTime();
+    String getCloseYn();
+}
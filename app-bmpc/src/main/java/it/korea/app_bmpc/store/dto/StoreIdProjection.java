@@ -0,0 +1,5 @@
+package it.korea.app_bmpc.store.dto;
+
+public interface StoreIdProjection {
+    Integer getStoreId();
+}
@@ -0,0 +1,6 @@
+package it.korea.app_bmpc.store.dto;
+
+public interface StoreMenuNameProjection {
+    Integer getStoreId();
+    String getMenuName();
+}
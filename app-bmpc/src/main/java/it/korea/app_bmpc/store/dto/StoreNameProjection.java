@@ -0,0 +1,6 @@
+package it.korea.app_bmpc.store.dto;
+
+public interface StoreNameProjection {
+    Integer getStoreId();
+    String getName();
+}
@@ -0,0 +1,8 @@
+package it.korea.app_bmpc.store.dto;
+
+import java.math.BigDecimal;
+
+public interface StorePopularGeoProjection extends StorePopularProjection {
+    BigDecimal getLatitude();
+    BigDecimal getLongitude();
+}
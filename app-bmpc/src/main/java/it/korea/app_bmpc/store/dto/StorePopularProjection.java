@@ -0,0 +1,7 @@
+package it.korea.app_bmpc.store.dto;
+
+public interface StorePopularProjection {
+    Integer getStoreId();
+    String getStoreName();
+    Long getOrderCount();
+}
@@ -0,0 +1,11 @@
+package it.korea.app_bmpc.store.dto;
+
+import java.math.BigDecimal;
+
+public interface StoreRankProjection {
+    Integer getStoreId();
+    BigDecimal getRatingAvg();
+    Integer getReviewCount();
+    BigDecimal getLatitude();
+    BigDecimal getLongitude();
+}
@@ -1,6 +1,7 @@
 package it.korea.app_bmpc.store.dto;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
@@ -11,7 +12,14 @@ public class StoreSearchDTO {
     private int caId;
     @NotBlank(message = "가게 검색시 사용자 주소는 필수값입니다.")
     private String addr;     // 사용자 주소
+    private boolean openNow; // 지금 영업중인 가게만 검색할지 여부
 
     private BigDecimal userLatitude;   // 사용자 위도(서비스에서 주입함)
     private BigDecimal userLongitude;  // 사용자 경도(서비스에서 주입함)
+
+    private double radiusKm;           // 검색 반경(서비스에서 주입함)
+    private List<Integer> candidateStoreIds;  // 공간/텍스트 인덱스로 걸러낸 후보 가게 아이디(서비스에서 주입함)
+    private boolean geoFiltered;               // 반경 필터를 공간 인덱스로 처리했는지(서비스에서 주입함)
+    private boolean textFiltered;              // 검색어 필터를 텍스트 인덱스로 처리했는지(서비스에서 주입함)
+    private List<Integer> excludedStoreIds;    // 영업중이 아니라서 제외할 가게 아이디(서비스에서 주입함)
 }
@@ -0,0 +1,15 @@
+package it.korea.app_bmpc.store.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface StoreSearchSourceProjection {
+    Integer getStoreId();
+    String getStoreName();
+    BigDecimal getLatitude();
+    BigDecimal getLongitude();
+    BigDecimal getRatingAvg();
+    Integer getReviewCount();
+    Integer getMinPrice();
+    LocalDateTime getUpdateDate();
+}
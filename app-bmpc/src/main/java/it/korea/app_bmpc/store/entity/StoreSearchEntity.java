@@ -0,0 +1,47 @@
+package it.korea.app_bmpc.store.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 가게 검색 전용 읽기 테이블
+ * 가게, 가게 카테고리, 메뉴 카테고리, 메뉴를 조인하지 않고 한 테이블로 검색할 수 있도록 펼쳐서 저장한다.
+ * 삭제되지 않은 가게만 들어있고, 가게/메뉴/리뷰 변경 이벤트로 동기화된다.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "bmpc_store_search")
+public class StoreSearchEntity {
+
+    @Id
+    private int storeId;
+    private String storeName;
+
+    @Column(precision = 10, scale = 7)
+    private BigDecimal latitude;   // 위도 (y)
+    @Column(precision = 10, scale = 7)
+    private BigDecimal longitude;  // 경도 (x)
+
+    private String categoryIds;    // 카테고리 아이디 (예: ,1,3,)
+
+    @Column(columnDefinition = "TEXT")
+    private String searchText;     // 가게명 + 메뉴명 (줄바꿈으로 구분)
+
+    @Column(columnDefinition = "CHAR(1)")
+    private String menuYn;         // 삭제되지 않은 메뉴가 하나 이상 있는지 여부
+
+    @Column(precision = 2, scale = 1)
+    private BigDecimal ratingAvg;
+
+    private int reviewCount;
+    private int minPrice;
+    private LocalDateTime updateDate;   // 가게 수정일 (기본 정렬용)
+}
@@ -0,0 +1,12 @@
+package it.korea.app_bmpc.store.event;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StoreBulkChangedEvent {
+    private final List<Integer> storeIdList;
+}
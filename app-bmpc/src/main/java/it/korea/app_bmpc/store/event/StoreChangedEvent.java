@@ -0,0 +1,10 @@
+package it.korea.app_bmpc.store.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StoreChangedEvent {
+    private final int storeId;
+}
@@ -0,0 +1,83 @@
+package it.korea.app_bmpc.store.event;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import it.korea.app_bmpc.store.service.StoreAutocompleteService;
+import it.korea.app_bmpc.store.service.StoreDetailCacheService;
+import it.korea.app_bmpc.store.service.StoreGeoIndexService;
+import it.korea.app_bmpc.store.service.StoreHourBitmapService;
+import it.korea.app_bmpc.store.service.StoreSearchCacheService;
+import it.korea.app_bmpc.store.service.StoreSearchSyncService;
+import it.korea.app_bmpc.store.service.StoreTextIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreEventListener {
+
+    private final StoreGeoIndexService storeGeoIndexService;
+    private final StoreTextIndexService storeTextIndexService;
+    private final StoreAutocompleteService storeAutocompleteService;
+    private final StoreSearchCacheService storeSearchCacheService;
+    private final StoreHourBitmapService storeHourBitmapService;
+    private final StoreDetailCacheService storeDetailCacheService;
+    private final StoreSearchSyncService storeSearchSyncService;
+
+    @Value("${store.search.radius-km:4.0}")
+    private double searchRadiusKm;   // 가게 검색 반경(km)
+
+    /**
+     * 가게 변경 트랜잭션이 끝난 후 메모리 인덱스 갱신, 검색 결과 캐시 삭제
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleStoreChangedEvent(StoreChangedEvent event) {
+        try {
+            storeDetailCacheService.evict(event.getStoreId());
+
+            // 검색 결과 캐시 삭제 범위를 구하기 위해 갱신 전 좌표를 먼저 꺼내둠
+            double[] oldLocation = storeGeoIndexService.getLocation(event.getStoreId());
+
+            storeGeoIndexService.refresh(event.getStoreId());
+            storeSearchCacheService.evictStore(oldLocation, storeGeoIndexService.getLocation(event.getStoreId()), searchRadiusKm);
+
+            storeHourBitmapService.refresh(event.getStoreId());
+
+            List<String> nameList = storeTextIndexService.refresh(event.getStoreId());
+            storeAutocompleteService.updateStore(event.getStoreId(), nameList);
+        } catch (Exception e) {
+            log.error("가게 {}번 인덱스 갱신 중 오류 발생. {}", event.getStoreId(), e.getMessage());
+        }
+
+        // 메모리 인덱스 갱신이 실패해도 가게 검색 테이블은 따로 동기화
+        try {
+            storeSearchSyncService.sync(event.getStoreId());
+        } catch (Exception e) {
+            log.error("가게 {}번 검색 테이블 동기화 중 오류 발생. {}", event.getStoreId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 가게 일괄 상태 변경 트랜잭션이 끝난 후 캐시와 영업시간 비트맵을 한 번에 갱신
+     * 영업 상태만 바뀌므로 좌표/가게명 인덱스는 건드리지 않는다.
+     * 바뀐 가게가 여러 격자에 흩어져 있으므로 검색 결과 캐시는 가게별로 찾지 않고 전체 삭제한다.
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleStoreBulkChangedEvent(StoreBulkChangedEvent event) {
+        try {
+            storeDetailCacheService.evictAll(event.getStoreIdList());
+            storeSearchCacheService.evictAll();
+            storeHourBitmapService.refreshAll(event.getStoreIdList());
+        } catch (Exception e) {
+            log.error("가게 {}건 일괄 갱신 중 오류 발생. {}", event.getStoreIdList().size(), e.getMessage());
+        }
+    }
+}
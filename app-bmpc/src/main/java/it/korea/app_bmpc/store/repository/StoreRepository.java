@@ -1,5 +1,7 @@
 package it.korea.app_bmpc.store.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -8,9 +10,13 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import it.korea.app_bmpc.store.dto.StoreGeoProjection;
+import it.korea.app_bmpc.store.dto.StoreHourProjection;
+import it.korea.app_bmpc.store.dto.StoreNameProjection;
 import it.korea.app_bmpc.store.entity.StoreEntity;
 
 public interface StoreRepository extends JpaRepository<StoreEntity, Integer>, JpaSpecificationExecutor<StoreEntity> {
@@ -18,6 +24,9 @@ public interface StoreRepository extends JpaRepository<StoreEntity, Integer>, Jp
     @EntityGraph(attributePaths = {"fileList", "hourList", "categoryList.category"})   // N+1 현상 해결
     Page<StoreEntity> findAll(Specification<StoreEntity> searchSpecification, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"fileList", "hourList", "categoryList.category"})   // N+1 현상 해결
+    List<StoreEntity> findAllByStoreIdIn(Collection<Integer> storeIdList);
+
     // fetch join 사용해서 N + 1 문제 해결
     // left join fetch s.menuCategoryList <-- subselect 로 해결
     // left join fetch mc.menuList m  <-- subselect 로 해결
@@ -31,4 +40,87 @@ public interface StoreRepository extends JpaRepository<StoreEntity, Integer>, Jp
         and s.delYn = 'N'
         """)   
     Optional<StoreEntity> getStore(@Param("storeId") int storeId);
+
+    // 공간 인덱스 생성용 좌표 조회
+    @Query("""
+        select s.storeId as storeId, s.latitude as latitude, s.longitude as longitude
+        from StoreEntity s
+        where s.delYn = 'N'
+        and s.latitude is not null
+        and s.longitude is not null
+        """)
+    List<StoreGeoProjection> findAllActiveGeo();
+
+    // 공간 인덱스 갱신용 좌표 조회
+    @Query("""
+        select s.storeId as storeId, s.latitude as latitude, s.longitude as longitude
+        from StoreEntity s
+        where s.storeId = :storeId
+        and s.delYn = 'N'
+        """)
+    Optional<StoreGeoProjection> findActiveGeoByStoreId(@Param("storeId") int storeId);
+
+    // 텍스트 인덱스 생성용 가게명 조회
+    @Query("""
+        select s.storeId as storeId, s.storeName as name
+        from StoreEntity s
+        where s.delYn = 'N'
+        """)
+    List<StoreNameProjection> findAllActiveName();
+
+    // 텍스트 인덱스 갱신용 가게명 조회
+    @Query("""
+        select s.storeId as storeId, s.storeName as name
+        from StoreEntity s
+        where s.storeId = :storeId
+        and s.delYn = 'N'
+        """)
+    Optional<StoreNameProjection> findActiveNameByStoreId(@Param("storeId") int storeId);
+
+    // 영업시간 비트맵 생성용 영업시간 조회
+    @Query("""
+        select h.store.storeId as storeId, h.dayOfWeek as dayOfWeek,
+            h.openTime as openTime, h.closeTime as closeTime, h.closeYn as closeYn
+        from StoreHourEntity h
+        where h.store.delYn = 'N'
+        """)
+    List<StoreHourProjection> findAllActiveHour();
+
+    // 영업시간 비트맵 갱신용 영업시간 조회
+    @Query("""
+        select h.store.storeId as storeId, h.dayOfWeek as dayOfWeek,
+            h.openTime as openTime, h.closeTime as closeTime, h.closeYn as closeYn
+        from StoreHourEntity h
+        where h.store.storeId = :storeId
+        and h.store.delYn = 'N'
+        """)
+    List<StoreHourProjection> findActiveHourByStoreId(@Param("storeId") int storeId);
+
+    // 영업시간 비트맵 일괄 갱신용 영업시간 조회
+    @Query("""
+        select h.store.storeId as storeId, h.dayOfWeek as dayOfWeek,
+            h.openTime as openTime, h.closeTime as closeTime, h.closeYn as closeYn
+        from StoreHourEntity h
+        where h.store.storeId in :storeIdList
+        and h.store.delYn = 'N'
+        """)
+    List<StoreHourProjection> findActiveHourByStoreIdIn(@Param("storeIdList") Collection<Integer> storeIdList);
+
+    // 일괄 상태 변경 대상 중 삭제되지 않은 가게 아이디 조회
+    @Query("""
+        select s.storeId
+        from StoreEntity s
+        where s.storeId in :storeIdList
+        and s.delYn = 'N'
+        """)
+    List<Integer> findActiveStoreIdByStoreIdIn(@Param("storeIdList") Collection<Integer> storeIdList);
+
+    // 가게 영업시간 휴무 여부 일괄 변경
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update StoreHourEntity h
+        set h.closeYn = :closeYn
+        where h.store.storeId in :storeIdList
+        """)
+    int updateCloseYnByStoreIdList(@Param("storeIdList") Collection<Integer> storeIdList, @Param("closeYn") String closeYn);
 }
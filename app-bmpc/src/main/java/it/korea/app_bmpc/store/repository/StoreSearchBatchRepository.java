@@ -0,0 +1,83 @@
+package it.korea.app_bmpc.store.repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import it.korea.app_bmpc.store.entity.StoreSearchEntity;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가게 검색 테이블을 JDBC 배치로 한 번에 저장/삭제하는 레포지토리
+ * (JPA 로 저장하면 아이디를 직접 넣는 엔티티라서 건마다 select 후 insert/update 가 나가기 때문)
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreSearchBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 가게 검색 정보 한 번에 저장 (있으면 덮어씀)
+     * @param entityList 가게 검색 정보 리스트
+     */
+    public void upsertStoreSearchList(List<StoreSearchEntity> entityList) {
+        List<Object[]> argList = new ArrayList<>();
+
+        for (StoreSearchEntity entity : entityList) {
+            argList.add(new Object[] {
+                entity.getStoreId(), entity.getStoreName(), entity.getLatitude(), entity.getLongitude(),
+                entity.getCategoryIds(), entity.getSearchText(), entity.getMenuYn(),
+                entity.getRatingAvg(), entity.getReviewCount(), entity.getMinPrice(),
+                entity.getUpdateDate() != null ? Timestamp.valueOf(entity.getUpdateDate()) : null
+            });
+        }
+
+        jdbcTemplate.batchUpdate("""
+                insert into bmpc_store_search (store_id, store_name, latitude, longitude, category_ids, search_text,
+                    menu_yn, rating_avg, review_count, min_price, update_date)
+                values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                on duplicate key update
+                    store_name = values(store_name),
+                    latitude = values(latitude),
+                    longitude = values(longitude),
+                    category_ids = values(category_ids),
+                    search_text = values(search_text),
+                    menu_yn = values(menu_yn),
+                    rating_avg = values(rating_avg),
+                    review_count = values(review_count),
+                    min_price = values(min_price),
+                    update_date = values(update_date)
+            """, argList);
+    }
+
+    /**
+     * 가게 검색 정보 삭제
+     * @param storeIdList 가게 아이디 리스트
+     */
+    public void deleteStoreSearchList(Collection<Integer> storeIdList) {
+        List<Object[]> argList = new ArrayList<>();
+
+        for (Integer storeId : storeIdList) {
+            argList.add(new Object[] { storeId });
+        }
+
+        jdbcTemplate.batchUpdate("delete from bmpc_store_search where store_id = ?", argList);
+    }
+
+    /**
+     * 삭제됐거나 없어진 가게의 검색 정보 정리
+     * @return 삭제된 건수
+     */
+    public int deleteInactiveStoreSearch() {
+        return jdbcTemplate.update("""
+                delete ss from bmpc_store_search ss
+                left join bmpc_store s on s.store_id = ss.store_id and s.del_yn = 'N'
+                where s.store_id is null
+            """);
+    }
+}
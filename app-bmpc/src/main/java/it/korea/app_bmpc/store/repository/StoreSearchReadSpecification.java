@@ -0,0 +1,83 @@
+package it.korea.app_bmpc.store.repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.jpa.domain.Specification;
+
+import it.korea.app_bmpc.common.utils.GeoUtils;
+import it.korea.app_bmpc.store.dto.StoreSearchDTO;
+import it.korea.app_bmpc.store.entity.StoreSearchEntity;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * 가게 검색 테이블(bmpc_store_search) 검색 조건
+ * StoreSearchSpecification 과 같은 결과를 내지만 조인, 서브쿼리 없이 한 테이블만 조회한다.
+ */
+public class StoreSearchReadSpecification implements Specification<StoreSearchEntity> {
+
+    private StoreSearchDTO searchDTO;
+
+    public StoreSearchReadSpecification(StoreSearchDTO searchDTO) {
+        this.searchDTO = searchDTO;
+    }
+
+    @Override
+    public Predicate toPredicate(Root<StoreSearchEntity> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        // 메뉴가 적어도 1개 이상인 가게들만 검색 (삭제된 가게는 검색 테이블에 없음)
+        predicates.add(cb.equal(root.get("menuYn"), "Y"));
+
+        // 검색어가 있을 경우 가게명 + 메뉴명 컬럼에서 검색 (텍스트 인덱스로 이미 걸렀다면 스킵)
+        if (StringUtils.isNotBlank(searchDTO.getSearchText()) && !searchDTO.isTextFiltered()) {
+            predicates.add(cb.like(root.get("searchText"), "%" + searchDTO.getSearchText() + "%"));
+        }
+
+        // 검색하려는 카테고리가 있을 경우... 즉, 전체보기가 아닐 경우
+        if (searchDTO.getCaId() != 0) {
+            predicates.add(cb.like(root.get("categoryIds"), "%," + searchDTO.getCaId() + ",%"));
+        }
+
+        // 공간/텍스트 인덱스에서 이미 후보 가게를 뽑아왔다면 아이디로 필터링
+        if (searchDTO.getCandidateStoreIds() != null) {
+            predicates.add(root.get("storeId").in(searchDTO.getCandidateStoreIds()));
+        }
+
+        // 영업중이 아닌 가게 제외
+        if (searchDTO.getExcludedStoreIds() != null && !searchDTO.getExcludedStoreIds().isEmpty()) {
+            predicates.add(cb.not(root.get("storeId").in(searchDTO.getExcludedStoreIds())));
+        }
+
+        // 사용자 주소의 위도/경도 값으로 반경 내의 가게들만 필터링 (공간 인덱스로 이미 걸렀다면 스킵)
+        if (!searchDTO.isGeoFiltered() && searchDTO.getUserLatitude() != null && searchDTO.getUserLongitude() != null) {
+            double radiusKm = searchDTO.getRadiusKm();
+
+            // 정확한 거리 계산 전에 위도/경도 사각형 범위로 먼저 걸러냄 (latitude, longitude 인덱스 사용)
+            double userLat = searchDTO.getUserLatitude().doubleValue();
+            double userLon = searchDTO.getUserLongitude().doubleValue();
+            double latDelta = GeoUtils.latitudeDelta(radiusKm);
+            double lonDelta = GeoUtils.longitudeDelta(userLat, radiusKm);
+
+            predicates.add(cb.between(root.<BigDecimal>get("latitude"), toScale(userLat - latDelta), toScale(userLat + latDelta)));
+            predicates.add(cb.between(root.<BigDecimal>get("longitude"), toScale(userLon - lonDelta), toScale(userLon + lonDelta)));
+
+            predicates.add(cb.lessThanOrEqualTo(
+                StoreSearchSpecification.distance(cb, searchDTO.getUserLatitude(), searchDTO.getUserLongitude(),
+                    root.get("latitude"), root.get("longitude")),
+                radiusKm));
+        }
+
+        return cb.and(predicates.toArray(new Predicate[0]));
+    }
+
+    private BigDecimal toScale(double degree) {
+        return BigDecimal.valueOf(degree).setScale(7, RoundingMode.HALF_UP);   // 컬럼과 같은 소수점 7자리
+    }
+}
@@ -0,0 +1,55 @@
+package it.korea.app_bmpc.store.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import it.korea.app_bmpc.store.dto.StoreCategoryIdProjection;
+import it.korea.app_bmpc.store.dto.StoreMenuNameProjection;
+import it.korea.app_bmpc.store.dto.StoreSearchSourceProjection;
+import it.korea.app_bmpc.store.entity.StoreSearchEntity;
+
+public interface StoreSearchRepository extends JpaRepository<StoreSearchEntity, Integer>, JpaSpecificationExecutor<StoreSearchEntity> {
+
+    // 검색 테이블 재생성용 가게 아이디 조회
+    @Query("""
+        select s.storeId
+        from StoreEntity s
+        where s.delYn = 'N'
+        order by s.storeId
+        """)
+    List<Integer> findAllActiveStoreId();
+
+    // 검색 테이블 동기화용 가게 정보 조회
+    @Query("""
+        select s.storeId as storeId, s.storeName as storeName, s.latitude as latitude, s.longitude as longitude,
+            s.ratingAvg as ratingAvg, s.reviewCount as reviewCount, s.minPrice as minPrice, s.updateDate as updateDate
+        from StoreEntity s
+        where s.storeId in :storeIdList
+        and s.delYn = 'N'
+        """)
+    List<StoreSearchSourceProjection> findSourceByStoreIdIn(@Param("storeIdList") Collection<Integer> storeIdList);
+
+    // 검색 테이블 동기화용 가게 카테고리 조회
+    @Query("""
+        select sc.store.storeId as storeId, sc.category.caId as caId
+        from StoreCategoryEntity sc
+        where sc.store.storeId in :storeIdList
+        """)
+    List<StoreCategoryIdProjection> findCategoryIdByStoreIdIn(@Param("storeIdList") Collection<Integer> storeIdList);
+
+    // 검색 테이블 동기화용 메뉴명 조회 (삭제되지 않은 메뉴 카테고리의 삭제되지 않은 메뉴만)
+    @Query("""
+        select mc.store.storeId as storeId, m.menuName as menuName
+        from MenuEntity m
+        join m.menuCategory mc
+        where mc.store.storeId in :storeIdList
+        and mc.delYn = 'N'
+        and m.delYn = 'N'
+        """)
+    List<StoreMenuNameProjection> findActiveMenuNameByStoreIdIn(@Param("storeIdList") Collection<Integer> storeIdList);
+}
@@ -1,11 +1,14 @@
 package it.korea.app_bmpc.store.repository;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.jpa.domain.Specification;
 
+import it.korea.app_bmpc.common.utils.GeoUtils;
 import it.korea.app_bmpc.menu.entity.MenuCategoryEntity;
 import it.korea.app_bmpc.menu.entity.MenuEntity;
 import it.korea.app_bmpc.store.dto.StoreSearchDTO;
@@ -47,7 +50,8 @@ public class StoreSearchSpecification implements Specification<StoreEntity> {
 
         predicates.add(cb.exists(subQuery));  // 위 서브쿼리의 결과가 존재해야함
 
-        if (StringUtils.isNotBlank(searchDTO.getSearchText())) {  // 검색어가 있을 경우
+        // 검색어가 있을 경우 (텍스트 인덱스로 이미 걸렀다면 스킵)
+        if (StringUtils.isNotBlank(searchDTO.getSearchText()) && !searchDTO.isTextFiltered()) {
             String likeText = "%" + searchDTO.getSearchText() + "%";
 
             // Store -> MenuCategory -> Menu 순으로 LEFT 조인하기
@@ -84,61 +88,102 @@ public class StoreSearchSpecification implements Specification<StoreEntity> {
 
         predicates.add(cb.equal(root.get("delYn"), "N"));   // 기본적으로 삭제 여부가 N 인 가게들만 검색
 
-        // 사용자가 입력한 주소의 위도/경도 값으로 반경 4km 내의 가게들만 필터링 (Haversine 공식 사용)
-        // 만약 사용자 주소가 위도/경도 값으로 변환이 안됐다면 해당 필터링 과정은 스킵
-        if (searchDTO.getUserLatitude() != null && searchDTO.getUserLongitude() != null) {
-
-            // 사용자 좌표를 라디안으로 변환
-            Expression<Double> lat1 = cb.function("radians", Double.class, cb.literal(searchDTO.getUserLatitude()));
-            Expression<Double> lon1 = cb.function("radians", Double.class, cb.literal(searchDTO.getUserLongitude()));
-
-            // 가게 좌표를 라디안으로 변환
-            Expression<Double> lat2 = cb.function("radians", Double.class, root.get("latitude"));
-            Expression<Double> lon2 = cb.function("radians", Double.class, root.get("longitude"));
-
-            // Δlat / 2, Δlon / 2
-            // 나누기 2 대신, 곱하기 0.5 로 나누기 효과를 구현해야 함
-            Expression<Double> halfLatDiff = cb.prod(cb.diff(lat2, lat1), cb.literal(0.5));
-            Expression<Double> halfLonDiff = cb.prod(cb.diff(lon2, lon1), cb.literal(0.5));
-
-            // sin²(Δlat/2), sin²(Δlon/2)
-            Expression<Double> sinLatSq = 
-                cb.prod(cb.function("sin", Double.class, halfLatDiff),
-                        cb.function("sin", Double.class, halfLatDiff));
-            Expression<Double> sinLonSq = 
-                cb.prod(cb.function("sin", Double.class, halfLonDiff),
-                        cb.function("sin", Double.class, halfLonDiff));
-
-            // a = sin²(Δlat/2) + cos(lat1) * cos(lat2) * sin²(Δlon/2)
-            Expression<Double> a = 
-                cb.sum(
-                    sinLatSq,
-                    cb.prod(
-                        cb.prod(
-                            cb.function("cos", Double.class, lat1),
-                            cb.function("cos", Double.class, lat2)),
-                        sinLonSq));
-
-            // c = 2 * atan2(sqrt(a), sqrt(1 - a))
-            Expression<Double> c = cb.prod(
-                cb.literal(2.0),
-                cb.function("atan2", Double.class,
-                    cb.function("sqrt", Double.class, a),
-                    cb.function("sqrt", Double.class, cb.diff(cb.literal(1.0), a))
-                )
-            );
-
-            // distance = R * c
-            // 6371.0 은 지구의 반지름 값
-            Expression<Double> distance = cb.prod(cb.literal(6371.0), c);
-
-            // 반경 4km 이하 필터링 조건 추가
-            predicates.add(cb.lessThanOrEqualTo(distance, 4.0));
+        // 공간/텍스트 인덱스에서 이미 후보 가게를 뽑아왔다면 아이디로 필터링
+        if (searchDTO.getCandidateStoreIds() != null) {
+            predicates.add(root.get("storeId").in(searchDTO.getCandidateStoreIds()));
+        }
+
+        // 영업중이 아닌 가게 제외 (후보 가게가 없어서 영업시간 비트맵으로 미리 거르지 못한 경우)
+        if (searchDTO.getExcludedStoreIds() != null && !searchDTO.getExcludedStoreIds().isEmpty()) {
+            predicates.add(cb.not(root.get("storeId").in(searchDTO.getExcludedStoreIds())));
+        }
+
+        // 사용자가 입력한 주소의 위도/경도 값으로 반경 내의 가게들만 필터링 (Haversine 공식 사용)
+        // 만약 사용자 주소가 위도/경도 값으로 변환이 안됐거나, 공간 인덱스로 이미 걸렀다면 해당 필터링 과정은 스킵
+        if (!searchDTO.isGeoFiltered() && searchDTO.getUserLatitude() != null && searchDTO.getUserLongitude() != null) {
+            double radiusKm = searchDTO.getRadiusKm();
+
+            // 정확한 거리 계산 전에 위도/경도 사각형 범위로 먼저 걸러냄 (del_yn, latitude, longitude 인덱스 사용)
+            double userLat = searchDTO.getUserLatitude().doubleValue();
+            double userLon = searchDTO.getUserLongitude().doubleValue();
+            double latDelta = GeoUtils.latitudeDelta(radiusKm);
+            double lonDelta = GeoUtils.longitudeDelta(userLat, radiusKm);
+
+            predicates.add(cb.between(root.<BigDecimal>get("latitude"), toScale(userLat - latDelta), toScale(userLat + latDelta)));
+            predicates.add(cb.between(root.<BigDecimal>get("longitude"), toScale(userLon - lonDelta), toScale(userLon + lonDelta)));
+
+            Expression<Double> distance = distance(cb, searchDTO.getUserLatitude(), searchDTO.getUserLongitude(),
+                root.get("latitude"), root.get("longitude"));
+
+            // 반경 이하 필터링 조건 추가
+            predicates.add(cb.lessThanOrEqualTo(distance, radiusKm));
         }
 
         return andTogether(predicates, cb);
     }
 
+    /**
+     * 사용자 좌표와 가게 좌표 컬럼 사이의 거리(km) 식 (Haversine 공식 사용)
+     * 가게 검색 테이블 검색 조건에서도 같이 사용한다.
+     * @param cb
+     * @param userLatitude 사용자 위도
+     * @param userLongitude 사용자 경도
+     * @param latitude 가게 위도 컬럼
+     * @param longitude 가게 경도 컬럼
+     * @return
+     */
+    static Expression<Double> distance(CriteriaBuilder cb, BigDecimal userLatitude, BigDecimal userLongitude,
+            Expression<?> latitude, Expression<?> longitude) {
+
+        // 사용자 좌표를 라디안으로 변환
+        Expression<Double> lat1 = cb.function("radians", Double.class, cb.literal(userLatitude));
+        Expression<Double> lon1 = cb.function("radians", Double.class, cb.literal(userLongitude));
+
+        // 가게 좌표를 라디안으로 변환
+        Expression<Double> lat2 = cb.function("radians", Double.class, latitude);
+        Expression<Double> lon2 = cb.function("radians", Double.class, longitude);
+
+        // Δlat / 2, Δlon / 2
+        // 나누기 2 대신, 곱하기 0.5 로 나누기 효과를 구현해야 함
+        Expression<Double> halfLatDiff = cb.prod(cb.diff(lat2, lat1), cb.literal(0.5));
+        Expression<Double> halfLonDiff = cb.prod(cb.diff(lon2, lon1), cb.literal(0.5));
+
+        // sin²(Δlat/2), sin²(Δlon/2)
+        Expression<Double> sinLatSq = 
+            cb.prod(cb.function("sin", Double.class, halfLatDiff),
+                    cb.function("sin", Double.class, halfLatDiff));
+        Expression<Double> sinLonSq = 
+            cb.prod(cb.function("sin", Double.class, halfLonDiff),
+                    cb.function("sin", Double.class, halfLonDiff));
+
+        // a = sin²(Δlat/2) + cos(lat1) * cos(lat2) * sin²(Δlon/2)
+        Expression<Double> a = 
+            cb.sum(
+                sinLatSq,
+                cb.prod(
+                    cb.prod(
+                        cb.function("cos", Double.class, lat1),
+                        cb.function("cos", Double.class, lat2)),
+                    sinLonSq));
+
+        // c = 2 * atan2(sqrt(a), sqrt(1 - a))
+        Expression<Double> c = cb.prod(
+            cb.literal(2.0),
+            cb.function("atan2", Double.class,
+                cb.function("sqrt", Double.class, a),
+                cb.function("sqrt", Double.class, cb.diff(cb.literal(1.0), a))
+            )
+        );
+
+        // distance = R * c
+        // 6371.0 은 지구의 반지름 값
+        return cb.prod(cb.literal(6371.0), c);
+    }
+
+    private BigDecimal toScale(double degree) {
+        return BigDecimal.valueOf(degree).setScale(7, RoundingMode.HALF_UP);   // 컬럼과 같은 소수점 7자리
+    }
+
     private Predicate andTogether(List<Predicate> predicates, CriteriaBuilder cb) {
         return cb.and(predicates.toArray(new Predicate[0]));  // 타입 추론. array를 만들 때 new Predicate 객체로 만들겠다는 뜻.
     }
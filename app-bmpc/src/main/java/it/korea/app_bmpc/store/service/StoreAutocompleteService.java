@@ -0,0 +1,301 @@
+package it.korea.app_bmpc.store.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import it.korea.app_bmpc.menu.repository.MenuRepository;
+import it.korea.app_bmpc.popular.entity.PopularKeywordEntity;
+import it.korea.app_bmpc.popular.repository.PopularKeywordRepository;
+import it.korea.app_bmpc.store.dto.StoreNameProjection;
+import it.korea.app_bmpc.store.repository.StoreRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가게명, 메뉴명, 인기 검색어로 만든 자동완성용 접두사 트라이(trie)
+ * 한글 초성 입력("ㅊㅋ" -> "치킨")도 지원하기 위해 초성으로 바꾼 트라이를 하나 더 둔다.
+ * 각 노드에 검색 횟수 기준 상위 추천어를 미리 계산해 두어서 조회는 접두사 길이만큼만 내려가면 끝난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreAutocompleteService {
+
+    private static final int MAX_SUGGESTION = 10;   // 노드별로 들고 있을 추천어 최대 개수
+
+    // 한글 초성 19자 (유니코드 음절 순서)
+    private static final char[] CHOSEONG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+        'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 검색 횟수 많은 순 -> 짧은 순 -> 가나다 순
+    private static final Comparator<Suggestion> SUGGESTION_ORDER = Comparator
+        .comparingInt(Suggestion::getCount).reversed()
+        .thenComparingInt(suggestion -> suggestion.getText().length())
+        .thenComparing(Suggestion::getText);
+
+    private final StoreRepository storeRepository;
+    private final MenuRepository menuRepository;
+    private final PopularKeywordRepository popularKeywordRepository;
+    private final StoreTextIndexService storeTextIndexService;   // 텍스트 인덱스와 같은 기준으로 정규화하기 위해 사용
+
+    private final Map<Integer, List<String>> storeNameMap = new ConcurrentHashMap<>();   // 가게 아이디 -> 가게명/메뉴명
+    private volatile Map<String, Integer> keywordCountMap = Map.of();   // 인기 검색어 -> 검색 횟수
+
+    private volatile TrieNode root = new TrieNode();            // 일반 트라이
+    private volatile TrieNode choseongRoot = new TrieNode();    // 초성 트라이
+    private volatile boolean dirty = false;                     // 다시 만들어야 하는지 여부
+
+    /**
+     * 서버 기동이 끝나면 가게명/메뉴명/인기 검색어를 읽어와 트라이 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            for (StoreNameProjection store : storeRepository.findAllActiveName()) {
+                storeNameMap.computeIfAbsent(store.getStoreId(), key -> new ArrayList<>()).add(store.getName());
+            }
+
+            for (StoreNameProjection menu : menuRepository.findAllActiveMenuName()) {
+                List<String> nameList = storeNameMap.get(menu.getStoreId());
+
+                if (nameList != null) {   // 삭제된 가게의 메뉴는 제외
+                    nameList.add(menu.getName());
+                }
+            }
+
+            keywordCountMap = loadKeywordCountMap();
+
+            rebuild();
+        } catch (Exception e) {
+            log.error("자동완성 트라이 생성 중 오류 발생. {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 가게 한 건의 가게명/메뉴명 교체 (빈 목록이면 제거)
+     * 트라이는 잠시 후 백그라운드에서 다시 만들어진다.
+     * @param storeId 가게 아이디
+     * @param nameList 가게명, 메뉴명 목록
+     */
+    public void updateStore(int storeId, List<String> nameList) {
+        if (nameList == null || nameList.isEmpty()) {
+            storeNameMap.remove(storeId);
+        } else {
+            storeNameMap.put(storeId, List.copyOf(nameList));
+        }
+
+        dirty = true;
+    }
+
+    /**
+     * 1분마다 인기 검색어와 검색 횟수 다시 읽어오기
+     */
+    @Scheduled(fixedRate = 60000, initialDelay = 60000)
+    public void refreshKeyword() {
+        try {
+            keywordCountMap = loadKeywordCountMap();
+            dirty = true;
+        } catch (Exception e) {
+            log.error("자동완성 인기 검색어 갱신 중 오류 발생. {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 변경 사항이 있으면 5초마다 트라이 다시 만들기
+     */
+    @Scheduled(fixedDelay = 5000)
+    public void rebuildIfDirty() {
+        if (dirty) {
+            dirty = false;
+            rebuild();
+        }
+    }
+
+    /**
+     * 자동완성 추천어 가져오기
+     * @param keyword 입력중인 검색어 (초성만 입력해도 됨)
+     * @param size 최대 개수
+     * @return
+     */
+    public List<String> getSuggestionList(String keyword, int size) {
+        String prefix = storeTextIndexService.normalize(keyword);
+
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+
+        TrieNode node = isChoseongOnly(prefix) ? choseongRoot : root;
+
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+
+        if (node == null) {
+            return List.of();
+        }
+
+        return node.topList.stream()
+            .limit(Math.max(1, Math.min(size, MAX_SUGGESTION)))
+            .map(Suggestion::getText)
+            .toList();
+    }
+
+    /**
+     * 현재 가게명/메뉴명/인기 검색어로 트라이를 새로 만들어서 교체
+     */
+    private synchronized void rebuild() {
+        // 정규화된 문자열 기준으로 중복 제거 (인기 검색어에 있으면 그 검색 횟수를 사용)
+        Map<String, Suggestion> termMap = new HashMap<>();
+
+        keywordCountMap.forEach((keyword, count) -> {
+            String term = storeTextIndexService.normalize(keyword);
+
+            if (!term.isEmpty()) {
+                termMap.merge(term, new Suggestion(keyword.trim(), count),
+                    (prev, next) -> prev.getCount() >= next.getCount() ? prev : next);
+            }
+        });
+
+        for (List<String> nameList : storeNameMap.values()) {
+            for (String name : nameList) {
+                String term = storeTextIndexService.normalize(name);
+
+                if (!term.isEmpty()) {
+                    termMap.putIfAbsent(term, new Suggestion(name.trim(), 0));
+                }
+            }
+        }
+
+        TrieNode newRoot = new TrieNode();
+        TrieNode newChoseongRoot = new TrieNode();
+
+        termMap.forEach((term, suggestion) -> {
+            insert(newRoot, term, suggestion);
+
+            String choseongTerm = toChoseong(term);
+            if (!choseongTerm.equals(term)) {   // 한글이 포함된 경우만 초성 트라이에 추가
+                insert(newChoseongRoot, choseongTerm, suggestion);
+            }
+        });
+
+        computeTopList(newRoot);
+        computeTopList(newChoseongRoot);
+
+        root = newRoot;
+        choseongRoot = newChoseongRoot;
+
+        log.info("자동완성 트라이 생성 완료. 추천어 수: {}", termMap.size());
+    }
+
+    /**
+     * 검색 횟수 상위 1000개 인기 검색어 가져오기
+     * @return
+     */
+    private Map<String, Integer> loadKeywordCountMap() {
+        Map<String, Integer> countMap = new HashMap<>();
+
+        for (PopularKeywordEntity keyword : popularKeywordRepository.findTop1000ByOrderBySearchCountDesc()) {
+            countMap.put(keyword.getKeyword(), keyword.getSearchCount());
+        }
+
+        return countMap;
+    }
+
+    private void insert(TrieNode root, String term, Suggestion suggestion) {
+        TrieNode node = root;
+
+        for (int i = 0; i < term.length(); i++) {
+            node = node.children.computeIfAbsent(term.charAt(i), key -> new TrieNode());
+        }
+
+        node.termList.add(suggestion);
+    }
+
+    /**
+     * 자식 노드들의 상위 추천어를 합쳐서 각 노드의 상위 추천어를 계산 (후위 순회)
+     * @param node
+     * @return
+     */
+    private List<Suggestion> computeTopList(TrieNode node) {
+        List<Suggestion> candidateList = new ArrayList<>(node.termList);
+
+        for (TrieNode child : node.children.values()) {
+            candidateList.addAll(computeTopList(child));
+        }
+
+        candidateList.sort(SUGGESTION_ORDER);
+        node.topList = List.copyOf(candidateList.subList(0, Math.min(MAX_SUGGESTION, candidateList.size())));
+
+        return node.topList;
+    }
+
+    /**
+     * 한글 음절을 초성으로 변환 (한글이 아닌 글자는 그대로)
+     * @param text
+     * @return
+     */
+    private String toChoseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+
+            if (ch >= '가' && ch <= '힣') {
+                sb.append(CHOSEONG[(ch - '가') / 588]);   // 초성 하나당 중성 21 x 종성 28 = 588 글자
+            } else {
+                sb.append(ch);
+            }
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * 한글이 초성(자음)으로만 입력됐는지 여부
+     * @param text
+     * @return
+     */
+    private boolean isChoseongOnly(String text) {
+        boolean hasChoseong = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+
+            if (ch >= '가' && ch <= '힣') {
+                return false;
+            }
+
+            if (ch >= 'ㄱ' && ch <= 'ㅎ') {
+                hasChoseong = true;
+            }
+        }
+
+        return hasChoseong;
+    }
+
+    private static class TrieNode {
+        private final Map<Character, TrieNode> children = new HashMap<>();
+        private final List<Suggestion> termList = new ArrayList<>(1);
+        private List<Suggestion> topList = List.of();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Suggestion {
+        private final String text;   // 화면에 보여줄 추천어
+        private final int count;     // 검색 횟수
+    }
+}
@@ -0,0 +1,119 @@
+package it.korea.app_bmpc.store.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import it.korea.app_bmpc.menu.dto.MenuCategoryDTO;
+import it.korea.app_bmpc.menu.repository.MenuCategoryRepository;
+import it.korea.app_bmpc.store.dto.StoreDTO;
+import it.korea.app_bmpc.store.dto.StoreHourDTO;
+import it.korea.app_bmpc.store.entity.StoreEntity;
+import it.korea.app_bmpc.store.repository.StoreRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가게 상세정보 캐시
+ * 가게, 메뉴, 파일, 별점이 바뀌지 않는 한 상세정보는 그대로이므로 가게 아이디별로 조립된 DTO 를 들고 있는다.
+ * 같은 가게에 동시에 캐시 미스가 나도 DB 조회는 한 번만 일어나고 나머지 요청은 그 결과를 기다린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreDetailCacheService {
+
+    private final StoreRepository storeRepository;
+    private final MenuCategoryRepository menuCategoryRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${store.detail.cache.max-size:5000}")
+    private long maxSize;          // 캐시 최대 개수
+
+    @Value("${store.detail.cache.ttl-minutes:10}")
+    private long ttlMinutes;       // 캐시 유지 시간(분)
+
+    private Cache<Integer, CachedDetail> detailCache;
+    private TransactionTemplate readOnlyTransactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        detailCache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+            .build();
+
+        readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 가게 상세정보 가져오기
+     * 영업 여부 같은 시간에 따라 바뀌는 값은 캐시된 영업시간으로 조회할 때마다 다시 계산한다.
+     * @param storeId 가게 아이디
+     * @return
+     */
+    public StoreDTO.Detail getDetail(int storeId) {
+        CachedDetail cachedDetail = detailCache.get(storeId, this::load);
+
+        return cachedDetail.getDetail().withBusinessHour(cachedDetail.getHourList());
+    }
+
+    /**
+     * 가게 상세정보 캐시 삭제
+     * @param storeId 가게 아이디
+     */
+    public void evict(int storeId) {
+        detailCache.invalidate(storeId);
+    }
+
+    /**
+     * 여러 가게의 상세정보 캐시 삭제
+     * @param storeIdList 가게 아이디 리스트
+     */
+    public void evictAll(Collection<Integer> storeIdList) {
+        detailCache.invalidateAll(storeIdList);
+    }
+
+    /**
+     * DB 에서 가게 상세정보 조립 (캐시 미스일 때 가게별로 한 번만 실행됨)
+     * 메뉴 리스트 등 지연 로딩이 필요하므로 읽기 전용 트랜잭션 안에서 DTO 변환까지 끝낸다.
+     * @param storeId 가게 아이디
+     * @return
+     */
+    private CachedDetail load(int storeId) {
+        return readOnlyTransactionTemplate.execute(status -> {
+            StoreEntity entity = storeRepository.getStore(storeId)
+                .orElseThrow(()-> new RuntimeException("해당 가게가 존재하지 않습니다."));
+
+            List<StoreHourDTO> hourList = entity.getHourList().stream().map(StoreHourDTO::of).toList();
+
+            // 메뉴 트리는 엔티티 대신 flat 조회 결과로 조립 (삭제된 메뉴는 SQL 에서 제외됨)
+            List<MenuCategoryDTO.Response> menuCategoryList =
+                MenuCategoryDTO.Response.ofTree(menuCategoryRepository.findMenuTreeByStoreId(storeId));
+
+            return new CachedDetail(StoreDTO.Detail.of(entity, menuCategoryList), hourList);
+        });
+    }
+
+    /**
+     * 캐시 값 (상세정보 + 영업 여부 계산용 영업시간)
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class CachedDetail {
+        private final StoreDTO.Detail detail;
+        private final List<StoreHourDTO> hourList;
+    }
+}
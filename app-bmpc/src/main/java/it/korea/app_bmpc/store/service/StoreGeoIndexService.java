@@ -0,0 +1,217 @@
+package it.korea.app_bmpc.store.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import it.korea.app_bmpc.common.utils.GeoUtils;
+import it.korea.app_bmpc.store.dto.StoreGeoProjection;
+import it.korea.app_bmpc.store.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 영업중인(삭제되지 않은) 가게들의 좌표를 격자(grid) 단위로 메모리에 들고 있는 공간 인덱스
+ * 반경 검색시 DB 에서 전체 가게를 대상으로 Haversine 계산을 하지 않도록 후보 가게 아이디를 먼저 뽑아준다.
+ * 다른 서버에서 변경된 가게는 이벤트가 오지 않으므로 주기적으로 DB 와 비교해서 바뀐 가게만 다시 맞추고,
+ * 한동안 맞추지 못했다면 인덱스를 쓰지 않고 DB 의 위도/경도 범위 검색으로 처리되도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreGeoIndexService {
+
+    private static final double CELL_SIZE = 0.01;   // 격자 한 칸의 크기(도 단위). 위도 기준 약 1.1km
+
+    private final StoreRepository storeRepository;
+
+    private final Map<Long, Set<Integer>> cellMap = new ConcurrentHashMap<>();       // 격자 -> 가게 아이디 목록
+    private final Map<Integer, double[]> locationMap = new ConcurrentHashMap<>();    // 가게 아이디 -> {위도, 경도}
+
+    @Value("${store.index.reconcile-interval-ms:60000}")
+    private long reconcileIntervalMs;   // DB 와 다시 맞추는 주기(ms)
+
+    private volatile boolean ready = false;   // 인덱스 초기화 완료 여부
+    private volatile long lastSyncTime = 0;   // 마지막으로 DB 와 맞춘 시간(ms)
+
+    /**
+     * 서버 기동시, 그리고 주기적으로 DB 의 가게 좌표와 인덱스를 비교해서 달라진 가게만 갱신
+     * (다른 서버에서 등록/이동/삭제된 가게 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${store.index.reconcile-interval-ms:60000}",
+        fixedDelayString = "${store.index.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        try {
+            Map<Integer, double[]> dbLocationMap = new HashMap<>();
+
+            for (StoreGeoProjection store : storeRepository.findAllActiveGeo()) {
+                dbLocationMap.put(store.getStoreId(),
+                    new double[] {store.getLatitude().doubleValue(), store.getLongitude().doubleValue()});
+            }
+
+            int changedCount = 0;
+
+            for (Map.Entry<Integer, double[]> entry : dbLocationMap.entrySet()) {
+                double[] location = entry.getValue();
+                double[] indexed = locationMap.get(entry.getKey());
+
+                if (indexed == null || indexed[0] != location[0] || indexed[1] != location[1]) {
+                    put(entry.getKey(), location[0], location[1]);
+                    changedCount++;
+                }
+            }
+
+            for (Integer storeId : new ArrayList<>(locationMap.keySet())) {
+                if (!dbLocationMap.containsKey(storeId)) {
+                    remove(storeId);
+                    changedCount++;
+                }
+            }
+
+            lastSyncTime = System.currentTimeMillis();
+
+            if (!ready) {
+                ready = true;
+                log.info("가게 공간 인덱스 생성 완료. 가게 수: {}, 격자 수: {}", locationMap.size(), cellMap.size());
+            } else if (changedCount > 0) {
+                log.info("가게 공간 인덱스 동기화 완료. 변경된 가게 수: {}", changedCount);
+            }
+        } catch (Exception e) {
+            log.error("가게 공간 인덱스 동기화 중 오류 발생. 오래되면 반경 검색은 DB 로 처리됨. {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 인덱스 사용 가능 여부
+     * 동기화가 주기의 3배 넘게 밀렸다면 다른 서버의 변경이 빠져있을 수 있으므로 사용하지 않는다.
+     * @return
+     */
+    public boolean isReady() {
+        return ready && System.currentTimeMillis() - lastSyncTime <= reconcileIntervalMs * 3;
+    }
+
+    /**
+     * 가게 한 건의 좌표를 DB 에서 다시 읽어서 인덱스 갱신
+     * 삭제됐거나 좌표가 없는 가게는 인덱스에서 제거한다.
+     * @param storeId 가게 아이디
+     */
+    public void refresh(int storeId) {
+        storeRepository.findActiveGeoByStoreId(storeId)
+            .filter(store -> store.getLatitude() != null && store.getLongitude() != null)
+            .ifPresentOrElse(
+                store -> put(storeId, store.getLatitude().doubleValue(), store.getLongitude().doubleValue()),
+                () -> remove(storeId));
+    }
+
+    /**
+     * 가게 좌표 등록 (이미 있으면 격자 이동)
+     * @param storeId 가게 아이디
+     * @param latitude 위도
+     * @param longitude 경도
+     */
+    public synchronized void put(int storeId, double latitude, double longitude) {
+        remove(storeId);
+
+        locationMap.put(storeId, new double[] {latitude, longitude});
+        cellMap.computeIfAbsent(toCellKey(latitude, longitude), key -> ConcurrentHashMap.newKeySet()).add(storeId);
+    }
+
+    /**
+     * 가게 좌표 제거
+     * @param storeId 가게 아이디
+     */
+    public synchronized void remove(int storeId) {
+        double[] location = locationMap.remove(storeId);
+
+        if (location != null) {
+            long cellKey = toCellKey(location[0], location[1]);
+            Set<Integer> storeIdSet = cellMap.get(cellKey);
+
+            if (storeIdSet != null) {
+                storeIdSet.remove(storeId);
+
+                if (storeIdSet.isEmpty()) {
+                    cellMap.remove(cellKey);
+                }
+            }
+        }
+    }
+
+    /**
+     * 가게 좌표 가져오기
+     * @param storeId 가게 아이디
+     * @return {위도, 경도}, 인덱스에 없으면 null
+     */
+    public double[] getLocation(int storeId) {
+        return locationMap.get(storeId);
+    }
+
+    /**
+     * 기준 좌표로부터 반경 내에 있는 가게 아이디와 거리(km) 가져오기
+     * 반경을 덮는 격자들만 훑은 뒤 Haversine 으로 정확한 거리를 한번 더 확인한다.
+     * @param latitude 기준 위도
+     * @param longitude 기준 경도
+     * @param radiusKm 반경(km)
+     * @return 가게 아이디 -> 거리(km)
+     */
+    public Map<Integer, Double> findStoreIdsWithin(double latitude, double longitude, double radiusKm) {
+        Map<Integer, Double> resultMap = new HashMap<>();
+
+        // 반경을 위도/경도 차이로 환산
+        double latDelta = GeoUtils.latitudeDelta(radiusKm);
+        double lonDelta = GeoUtils.longitudeDelta(latitude, radiusKm);
+
+        long minLatIndex = toCellIndex(latitude - latDelta);
+        long maxLatIndex = toCellIndex(latitude + latDelta);
+        long minLonIndex = toCellIndex(longitude - lonDelta);
+        long maxLonIndex = toCellIndex(longitude + lonDelta);
+
+        for (long latIndex = minLatIndex; latIndex <= maxLatIndex; latIndex++) {
+            for (long lonIndex = minLonIndex; lonIndex <= maxLonIndex; lonIndex++) {
+                Set<Integer> storeIdSet = cellMap.get(toCellKey(latIndex, lonIndex));
+
+                if (storeIdSet == null) {
+                    continue;
+                }
+
+                for (Integer storeId : storeIdSet) {
+                    double[] location = locationMap.get(storeId);
+
+                    if (location == null) {
+                        continue;
+                    }
+
+                    double distance = GeoUtils.distance(latitude, longitude, location[0], location[1]);
+
+                    if (distance <= radiusKm) {
+                        resultMap.put(storeId, distance);
+                    }
+                }
+            }
+        }
+
+        return resultMap;
+    }
+
+    private long toCellIndex(double degree) {
+        return (long) Math.floor(degree / CELL_SIZE);
+    }
+
+    private long toCellKey(double latitude, double longitude) {
+        return toCellKey(toCellIndex(latitude), toCellIndex(longitude));
+    }
+
+    private long toCellKey(long latIndex, long lonIndex) {
+        return (latIndex << 32) | (lonIndex & 0xffffffffL);
+    }
+}
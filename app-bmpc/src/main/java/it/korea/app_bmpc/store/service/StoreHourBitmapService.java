@@ -0,0 +1,283 @@
+package it.korea.app_bmpc.store.service;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import it.korea.app_bmpc.store.dto.StoreHourProjection;
+import it.korea.app_bmpc.store.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가게별 일주일 영업시간을 분 단위 비트맵으로 메모리에 들고 있는 서비스
+ * (월요일 00:00 부터 일요일 23:59 까지 10080 분을 비트 하나씩 사용, 가게당 long 158개)
+ * 영업 여부 확인이 영업시간 리스트를 훑지 않고 비트 하나 확인으로 끝난다.
+ * 다른 서버에서 변경된 영업시간/휴무 여부는 이벤트가 오지 않으므로 주기적으로 DB 와 비교해서 달라진 가게만 교체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreHourBitmapService {
+
+    private static final int DAY_MINUTES = 24 * 60;
+    private static final int WEEK_MINUTES = 7 * DAY_MINUTES;
+    private static final int WORD_COUNT = (WEEK_MINUTES + 63) / 64;
+
+    private final StoreRepository storeRepository;
+
+    private final Map<Integer, long[]> bitmapMap = new ConcurrentHashMap<>();   // 가게 아이디 -> 영업시간 비트맵
+
+    @Value("${store.index.reconcile-interval-ms:60000}")
+    private long reconcileIntervalMs;   // DB 와 다시 맞추는 주기(ms)
+
+    private volatile boolean ready = false;   // 비트맵 초기화 완료 여부
+    private volatile long lastSyncTime = 0;   // 마지막으로 DB 와 맞춘 시간(ms)
+
+    /**
+     * 서버 기동시, 그리고 주기적으로 DB 의 영업시간으로 비트맵을 다시 만들어서 달라진 가게만 교체
+     * (다른 서버에서 변경된 영업시간, 어드민 영업 상태 변경 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${store.index.reconcile-interval-ms:60000}",
+        fixedDelayString = "${store.index.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        try {
+            Map<Integer, List<StoreHourProjection>> hourMap = new HashMap<>();
+
+            for (StoreHourProjection hour : storeRepository.findAllActiveHour()) {
+                hourMap.computeIfAbsent(hour.getStoreId(), k -> new ArrayList<>()).add(hour);
+            }
+
+            int changedCount = 0;
+
+            for (Map.Entry<Integer, List<StoreHourProjection>> entry : hourMap.entrySet()) {
+                long[] bitmap = createBitmap(entry.getValue());
+
+                if (!Arrays.equals(bitmap, bitmapMap.get(entry.getKey()))) {
+                    bitmapMap.put(entry.getKey(), bitmap);
+                    changedCount++;
+                }
+            }
+
+            for (Integer storeId : new ArrayList<>(bitmapMap.keySet())) {
+                if (!hourMap.containsKey(storeId)) {
+                    bitmapMap.remove(storeId);
+                    changedCount++;
+                }
+            }
+
+            lastSyncTime = System.currentTimeMillis();
+
+            if (!ready) {
+                ready = true;
+                log.info("가게 영업시간 비트맵 생성 완료. 가게 수: {}", bitmapMap.size());
+            } else if (changedCount > 0) {
+                log.info("가게 영업시간 비트맵 동기화 완료. 변경된 가게 수: {}", changedCount);
+            }
+        } catch (Exception e) {
+            log.error("가게 영업시간 비트맵 동기화 중 오류 발생. 오래되면 영업중 필터는 사용하지 않음. {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 비트맵 사용 가능 여부
+     * 동기화가 주기의 3배 넘게 밀렸다면 다른 서버의 변경이 빠져있을 수 있으므로 사용하지 않는다.
+     * @return
+     */
+    public boolean isReady() {
+        return ready && System.currentTimeMillis() - lastSyncTime <= reconcileIntervalMs * 3;
+    }
+
+    /**
+     * 가게 한 건의 영업시간을 DB 에서 다시 읽어서 비트맵 갱신
+     * 삭제됐거나 영업시간이 없는 가게는 비트맵에서 제거한다.
+     * @param storeId 가게 아이디
+     */
+    public void refresh(int storeId) {
+        List<StoreHourProjection> hourList = storeRepository.findActiveHourByStoreId(storeId);
+
+        if (hourList.isEmpty()) {
+            bitmapMap.remove(storeId);
+        } else {
+            bitmapMap.put(storeId, createBitmap(hourList));
+        }
+    }
+
+    /**
+     * 여러 가게의 영업시간을 한 번에 DB 에서 다시 읽어서 비트맵 갱신
+     * 삭제됐거나 영업시간이 없는 가게는 비트맵에서 제거한다.
+     * @param storeIdList 가게 아이디 리스트
+     */
+    public void refreshAll(Collection<Integer> storeIdList) {
+        Map<Integer, List<StoreHourProjection>> hourMap = new HashMap<>();
+
+        for (StoreHourProjection hour : storeRepository.findActiveHourByStoreIdIn(storeIdList)) {
+            hourMap.computeIfAbsent(hour.getStoreId(), k -> new ArrayList<>()).add(hour);
+        }
+
+        for (Integer storeId : storeIdList) {
+            List<StoreHourProjection> hourList = hourMap.get(storeId);
+
+            if (hourList == null) {
+                bitmapMap.remove(storeId);
+            } else {
+                bitmapMap.put(storeId, createBitmap(hourList));
+            }
+        }
+    }
+
+    /**
+     * 영업 여부 확인
+     * 영업시간이 등록되지 않은 가게(요일)는 영업중으로 본다.
+     * @param storeId 가게 아이디
+     * @param dateTime 확인할 시간
+     * @return
+     */
+    public boolean isOpen(int storeId, LocalDateTime dateTime) {
+        long[] bitmap = bitmapMap.get(storeId);
+
+        if (bitmap == null) {
+            return true;
+        }
+
+        int minute = toWeekMinute(dateTime);
+
+        return (bitmap[minute >>> 6] & (1L << (minute & 63))) != 0;
+    }
+
+    /**
+     * 영업중인 가게만 남기기
+     * @param storeIdList 가게 아이디 리스트
+     * @param dateTime 확인할 시간
+     * @return
+     */
+    public List<Integer> filterOpen(Collection<Integer> storeIdList, LocalDateTime dateTime) {
+        List<Integer> openStoreIdList = new ArrayList<>(storeIdList.size());
+
+        for (Integer storeId : storeIdList) {
+            if (isOpen(storeId, dateTime)) {
+                openStoreIdList.add(storeId);
+            }
+        }
+
+        return openStoreIdList;
+    }
+
+    /**
+     * 영업중이 아닌 가게 아이디 가져오기
+     * (후보 가게 없이 DB 로 검색할 때 제외할 가게 목록)
+     * @param dateTime 확인할 시간
+     * @return
+     */
+    public List<Integer> getClosedStoreIdList(LocalDateTime dateTime) {
+        List<Integer> closedStoreIdList = new ArrayList<>();
+
+        for (Integer storeId : bitmapMap.keySet()) {
+            if (!isOpen(storeId, dateTime)) {
+                closedStoreIdList.add(storeId);
+            }
+        }
+
+        return closedStoreIdList;
+    }
+
+    /**
+     * 영업시간 리스트로 비트맵 만들기
+     * StoreDTO 의 영업 여부 계산과 같은 기준으로, 영업시간이 있는 요일은 오픈 시간 ~ 마감 시간만 영업중이고 휴무일은 하루 종일 영업 종료
+     * @param hourList 한 가게의 영업시간 리스트
+     * @return
+     */
+    private long[] createBitmap(List<StoreHourProjection> hourList) {
+        long[] bitmap = new long[WORD_COUNT];
+
+        // 영업시간이 없는 요일은 영업중이므로 전부 켜두고 시작
+        setRange(bitmap, 0, WEEK_MINUTES - 1, true);
+
+        for (StoreHourProjection hour : hourList) {
+            int dayOfWeek = hour.getDayOfWeek();
+
+            if (dayOfWeek < 1 || dayOfWeek > 7) {
+                continue;
+            }
+
+            int dayStart = (dayOfWeek - 1) * DAY_MINUTES;
+
+            setRange(bitmap, dayStart, dayStart + DAY_MINUTES - 1, false);
+
+            if ("Y".equals(hour.getCloseYn()) || hour.getOpenTime() == null || hour.getCloseTime() == null) {
+                continue;
+            }
+
+            int openMinute = toDayMinute(hour.getOpenTime());
+            int closeMinute = toDayMinute(hour.getCloseTime());
+
+            if (openMinute <= closeMinute) {
+                setRange(bitmap, dayStart + openMinute, dayStart + closeMinute, true);
+            }
+        }
+
+        return bitmap;
+    }
+
+    /**
+     * 비트맵의 from ~ to (포함) 구간을 켜거나 끔
+     * 분마다 비트를 하나씩 바꾸지 않고 long 단위 마스크로 한 번에 바꾼다. (양 끝 long 만 일부 비트)
+     * @param bitmap 비트맵
+     * @param from 시작 분
+     * @param to 끝 분
+     * @param value 켤지 여부
+     */
+    private void setRange(long[] bitmap, int from, int to, boolean value) {
+        int fromWord = from >>> 6;
+        int toWord = to >>> 6;
+
+        for (int word = fromWord; word <= toWord; word++) {
+            long mask = -1L;
+
+            if (word == fromWord) {
+                mask &= -1L << (from & 63);       // 시작 비트 이전은 제외
+            }
+
+            if (word == toWord) {
+                mask &= -1L >>> (63 - (to & 63));   // 끝 비트 이후는 제외
+            }
+
+            if (value) {
+                bitmap[word] |= mask;
+            } else {
+                bitmap[word] &= ~mask;
+            }
+        }
+    }
+
+    /**
+     * 일주일 중 몇 번째 분인지 구하기 (월요일 00:00 = 0)
+     * @param dateTime 시간
+     * @return
+     */
+    private int toWeekMinute(LocalDateTime dateTime) {
+        return (dateTime.getDayOfWeek().getValue() - 1) * DAY_MINUTES + toDayMinute(dateTime.toLocalTime());
+    }
+
+    /**
+     * 하루 중 몇 번째 분인지 구하기
+     * @param time 시간
+     * @return
+     */
+    private int toDayMinute(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
@@ -0,0 +1,156 @@
+package it.korea.app_bmpc.store.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import it.korea.app_bmpc.common.utils.GeoUtils;
+import it.korea.app_bmpc.order.repository.OrderRepository;
+import it.korea.app_bmpc.store.dto.StoreDTO;
+import it.korea.app_bmpc.store.dto.StorePopularGeoProjection;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지역별 인기 가게 랭킹
+ * 최근 한달간 배달완료 주문수를 가게 좌표 기준 격자(cell)별로 정렬해서 메모리에 들고 있다가,
+ * 사용자 좌표 반경 안의 격자들만 합쳐서 동네 인기 가게 top N 을 돌려준다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StorePopularRegionService {
+
+    private static final double CELL_SIZE = 0.02;   // 격자 한 칸의 크기(도 단위). 위도 기준 약 2.2km
+
+    // 주문수 내림차순, 같으면 가게 아이디 오름차순
+    private static final Comparator<RankedStore> RANK_ORDER =
+        Comparator.comparingInt(RankedStore::getOrderCount).reversed().thenComparingInt(RankedStore::getStoreId);
+
+    private final OrderRepository orderRepository;
+
+    @Value("${store.search.radius-km:4.0}")
+    private double searchRadiusKm;   // 가게 검색 반경(km)
+
+    // 격자 -> 주문수 내림차순 가게 리스트 (갱신할 때마다 통째로 교체)
+    private volatile Map<Long, List<RankedStore>> cellRankMap = Map.of();
+
+    /**
+     * 서버 기동시, 그리고 10분마다 랭킹 다시 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedRate = 600000, initialDelay = 600000)
+    public void rebuild() {
+        try {
+            List<StorePopularGeoProjection> storeList =
+                orderRepository.findStoreOrderCountWithGeoList("배달완료", LocalDateTime.now().minusMonths(1));
+
+            Map<Long, List<RankedStore>> newCellRankMap = new HashMap<>();
+
+            for (StorePopularGeoProjection store : storeList) {
+                double latitude = store.getLatitude().doubleValue();
+                double longitude = store.getLongitude().doubleValue();
+
+                RankedStore rankedStore = new RankedStore(store.getStoreId(), store.getStoreName(),
+                    store.getOrderCount().intValue(), latitude, longitude);
+
+                newCellRankMap.computeIfAbsent(toCellKey(toCellIndex(latitude), toCellIndex(longitude)), k -> new ArrayList<>())
+                    .add(rankedStore);
+            }
+
+            newCellRankMap.values().forEach(list -> list.sort(RANK_ORDER));
+
+            cellRankMap = newCellRankMap;
+
+            log.info("지역별 인기 가게 랭킹 생성 완료. 가게 수: {}, 격자 수: {}", storeList.size(), newCellRankMap.size());
+        } catch (Exception e) {
+            log.error("지역별 인기 가게 랭킹 생성 중 오류 발생. {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자 좌표 반경 안의 인기 가게 top N 가져오기
+     * 격자별 리스트가 이미 주문수 순으로 정렬되어 있으므로 격자마다 반경 안의 가게를 size 개까지만 꺼내서 합친다.
+     * @param latitude 사용자 위도
+     * @param longitude 사용자 경도
+     * @param size 가져올 가게 수
+     * @return
+     */
+    public List<StoreDTO.Popular> getLocalPopularList(double latitude, double longitude, int size) {
+        Map<Long, List<RankedStore>> currentCellRankMap = cellRankMap;
+        List<RankedStore> candidateList = new ArrayList<>();
+
+        double latDelta = GeoUtils.latitudeDelta(searchRadiusKm);
+        double lonDelta = GeoUtils.longitudeDelta(latitude, searchRadiusKm);
+
+        long minLatIndex = toCellIndex(latitude - latDelta);
+        long maxLatIndex = toCellIndex(latitude + latDelta);
+        long minLonIndex = toCellIndex(longitude - lonDelta);
+        long maxLonIndex = toCellIndex(longitude + lonDelta);
+
+        for (long latIndex = minLatIndex; latIndex <= maxLatIndex; latIndex++) {
+            for (long lonIndex = minLonIndex; lonIndex <= maxLonIndex; lonIndex++) {
+                List<RankedStore> rankList = currentCellRankMap.get(toCellKey(latIndex, lonIndex));
+
+                if (rankList == null) {
+                    continue;
+                }
+
+                int count = 0;
+
+                for (RankedStore store : rankList) {
+                    if (count >= size) {
+                        break;
+                    }
+
+                    if (GeoUtils.distance(latitude, longitude, store.getLatitude(), store.getLongitude()) <= searchRadiusKm) {
+                        candidateList.add(store);
+                        count++;
+                    }
+                }
+            }
+        }
+
+        return candidateList.stream()
+            .sorted(RANK_ORDER)
+            .limit(size)
+            .map(store -> StoreDTO.Popular.builder()
+                .storeId(store.getStoreId())
+                .storeName(store.getStoreName())
+                .orderCount(store.getOrderCount())
+                .build())
+            .toList();
+    }
+
+    private long toCellIndex(double degree) {
+        return (long) Math.floor(degree / CELL_SIZE);
+    }
+
+    private long toCellKey(long latIndex, long lonIndex) {
+        return (latIndex << 32) | (lonIndex & 0xffffffffL);
+    }
+
+    /**
+     * 랭킹에 들어가는 가게 정보
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class RankedStore {
+        private final int storeId;
+        private final String storeName;
+        private final int orderCount;
+        private final double latitude;
+        private final double longitude;
+    }
+}
@@ -0,0 +1,114 @@
+package it.korea.app_bmpc.store.service;
+
+/**
+ * 점수가 높은 가게 k개만 남기는 최소 힙
+ * 후보 전체를 정렬하지 않고 (점수, 가게 아이디) 를 기본형 배열에 담아서 검색마다 객체 생성을 최소화한다.
+ * 점수가 같으면 가게 아이디가 큰(최근 등록된) 가게를 앞에 둔다.
+ */
+class StoreRankHeap {
+
+    private final double[] scores;
+    private final int[] storeIds;
+    private int size = 0;
+
+    StoreRankHeap(int capacity) {
+        this.scores = new double[capacity];
+        this.storeIds = new int[capacity];
+    }
+
+    /**
+     * 가게 추가 (힙이 가득 찼다면 가장 낮은 가게보다 높을 때만 교체)
+     * @param storeId 가게 아이디
+     * @param score 점수
+     */
+    void offer(int storeId, double score) {
+        if (scores.length == 0) {
+            return;
+        }
+
+        if (size < scores.length) {
+            scores[size] = score;
+            storeIds[size] = storeId;
+            siftUp(size++);
+        } else if (isLower(scores[0], storeIds[0], score, storeId)) {
+            scores[0] = score;
+            storeIds[0] = storeId;
+            siftDown(0);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 점수가 높은 순서대로 가게 아이디 꺼내기 (꺼낸 뒤 힙은 비워짐)
+     * @return
+     */
+    int[] drainDescending() {
+        int[] result = new int[size];
+
+        // 루트가 가장 낮은 가게이므로 뒤에서부터 채움
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = storeIds[0];
+
+            size--;
+            scores[0] = scores[size];
+            storeIds[0] = storeIds[size];
+            siftDown(0);
+        }
+
+        return result;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+
+            if (!isLower(scores[index], storeIds[index], scores[parent], storeIds[parent])) {
+                break;
+            }
+
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = (index << 1) + 1;
+            int right = left + 1;
+            int lowest = index;
+
+            if (left < size && isLower(scores[left], storeIds[left], scores[lowest], storeIds[lowest])) {
+                lowest = left;
+            }
+
+            if (right < size && isLower(scores[right], storeIds[right], scores[lowest], storeIds[lowest])) {
+                lowest = right;
+            }
+
+            if (lowest == index) {
+                break;
+            }
+
+            swap(index, lowest);
+            index = lowest;
+        }
+    }
+
+    // a 가 b 보다 순위가 낮은지
+    private boolean isLower(double scoreA, int storeIdA, double scoreB, int storeIdB) {
+        return scoreA < scoreB || (scoreA == scoreB && storeIdA < storeIdB);
+    }
+
+    private void swap(int i, int j) {
+        double score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+
+        int storeId = storeIds[i];
+        storeIds[i] = storeIds[j];
+        storeIds[j] = storeId;
+    }
+}
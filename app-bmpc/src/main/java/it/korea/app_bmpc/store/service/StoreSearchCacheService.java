@@ -0,0 +1,179 @@
+package it.korea.app_bmpc.store.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import it.korea.app_bmpc.common.utils.GeoUtils;
+import it.korea.app_bmpc.store.dto.StoreSearchDTO;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가게 검색 결과 캐시
+ * 사용자 좌표를 작은 격자(cell)로 묶어서 (격자, 카테고리, 검색어, 페이지) 가 같은 검색은 결과를 공유한다.
+ * 반경 필터는 사용자 좌표 그대로 하고 캐시 키만 격자로 묶으므로, 격자를 작게(약 20m) 잡아서 같은 건물/주소 검색끼리만 공유되도록 한다.
+ * 결과는 가게 아이디 순서와 전체 개수만 저장하고, 영업 여부 같은 가게 정보는 조회할 때마다 새로 만든다.
+ */
+@Slf4j
+@Component
+public class StoreSearchCacheService {
+
+    private static final double DISTANCE_MARGIN_KM = 0.05;   // 좌표 반올림 오차를 감안한 여유 거리(km)
+
+    @Value("${store.search.cache.cell-size:0.0002}")
+    private double cellSize;       // 격자 한 칸의 크기(도 단위). 위도 기준 약 22m (DISTANCE_MARGIN_KM 보다 작아야 함)
+
+    @Value("${store.search.cache.max-size:10000}")
+    private long maxSize;          // 캐시 최대 개수
+
+    @Value("${store.search.cache.ttl-seconds:60}")
+    private long ttlSeconds;       // 캐시 유지 시간(초)
+
+    private Cache<SearchKey, SearchResult> resultCache;
+
+    @PostConstruct
+    public void init() {
+        resultCache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .build();
+    }
+
+    /**
+     * 좌표를 격자 중심 좌표로 맞추기 (캐시 키 전용)
+     * @param value 위도 또는 경도
+     * @return
+     */
+    private double snap(BigDecimal value) {
+        double center = (Math.floor(value.doubleValue() / cellSize) + 0.5) * cellSize;
+
+        return BigDecimal.valueOf(center).setScale(7, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    /**
+     * 캐시 키 만들기
+     * @param searchDTO 검색 내용 (좌표는 사용자 좌표 그대로, 키에는 격자 중심 좌표가 들어감)
+     * @param pageable 페이징 객체
+     * @return
+     */
+    public SearchKey createKey(StoreSearchDTO searchDTO, Pageable pageable) {
+        boolean hasLocation = searchDTO.getUserLatitude() != null && searchDTO.getUserLongitude() != null;
+        String searchText = searchDTO.getSearchText() != null ? searchDTO.getSearchText().trim() : "";
+
+        // 영업중 필터 결과는 시간에 따라 달라지므로 분 단위로 따로 저장
+        long openMinute = searchDTO.isOpenNow() ? System.currentTimeMillis() / 60000 : -1;
+
+        return new SearchKey(
+            hasLocation,
+            hasLocation ? snap(searchDTO.getUserLatitude()) : 0,
+            hasLocation ? snap(searchDTO.getUserLongitude()) : 0,
+            searchDTO.getCaId(),
+            searchText,
+            openMinute,
+            pageable.getPageNumber(),
+            pageable.getPageSize(),
+            pageable.getSort().toString());
+    }
+
+    /**
+     * 캐시된 검색 결과 가져오기
+     * @param key 캐시 키
+     * @return 없으면 null
+     */
+    public SearchResult get(SearchKey key) {
+        return resultCache.getIfPresent(key);
+    }
+
+    /**
+     * 검색 결과 저장
+     * @param key 캐시 키
+     * @param storeIdList 가게 아이디 리스트 (정렬 순서대로)
+     * @param totalElements 전체 개수
+     */
+    public void put(SearchKey key, List<Integer> storeIdList, long totalElements) {
+        resultCache.put(key, new SearchResult(List.copyOf(storeIdList), totalElements));
+    }
+
+    /**
+     * 가게 변경시 그 가게가 검색될 수 있는 격자의 캐시만 삭제
+     * 변경 전/후 좌표 모두 확인해서 이사 간 가게도 양쪽 동네에서 삭제되도록 한다.
+     * @param oldLocation 변경 전 {위도, 경도} (없으면 null)
+     * @param newLocation 변경 후 {위도, 경도} (없으면 null)
+     * @param radiusKm 가게 검색 반경(km)
+     */
+    public void evictStore(double[] oldLocation, double[] newLocation, double radiusKm) {
+        if (oldLocation == null && newLocation == null) {
+            // 좌표를 알 수 없는 가게라면 어느 격자에 영향을 줬는지 모르므로 전부 삭제
+            resultCache.invalidateAll();
+            return;
+        }
+
+        resultCache.asMap().keySet().removeIf(key -> !key.isHasLocation()
+            || isNear(key, oldLocation, radiusKm)
+            || isNear(key, newLocation, radiusKm));
+    }
+
+    /**
+     * 캐시 전체 삭제
+     */
+    public void evictAll() {
+        resultCache.invalidateAll();
+    }
+
+    /**
+     * 해당 캐시 결과에 들어갈 수 있는 가게인지 확인
+     * 격자 안 사용자는 격자 중심에서 DISTANCE_MARGIN_KM 이내이므로 격자 중심에서 반경 + 여유 거리 이내인지만 보면 된다.
+     * @param key 캐시 키
+     * @param location 가게 {위도, 경도}
+     * @param radiusKm 가게 검색 반경(km)
+     * @return
+     */
+    private boolean isNear(SearchKey key, double[] location, double radiusKm) {
+        if (location == null) {
+            return false;
+        }
+
+        return GeoUtils.distance(key.getLatitude(), key.getLongitude(), location[0], location[1])
+            <= radiusKm + DISTANCE_MARGIN_KM;
+    }
+
+    /**
+     * 캐시 키
+     */
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    public static class SearchKey {
+        private final boolean hasLocation;   // 사용자 좌표 존재 여부 (없으면 반경 필터 없이 검색된 결과)
+        private final double latitude;       // 격자 중심 위도
+        private final double longitude;      // 격자 중심 경도
+        private final int caId;
+        private final String searchText;
+        private final long openMinute;       // 영업중 필터 기준 시간(분), 필터를 쓰지 않으면 -1
+        private final int page;
+        private final int size;
+        private final String sort;
+    }
+
+    /**
+     * 캐시 값
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class SearchResult {
+        private final List<Integer> storeIdList;
+        private final long totalElements;
+    }
+}
@@ -0,0 +1,192 @@
+package it.korea.app_bmpc.store.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import it.korea.app_bmpc.common.lock.SchedulerLock;
+import it.korea.app_bmpc.store.dto.StoreCategoryIdProjection;
+import it.korea.app_bmpc.store.dto.StoreMenuNameProjection;
+import it.korea.app_bmpc.store.dto.StoreSearchSourceProjection;
+import it.korea.app_bmpc.store.entity.StoreSearchEntity;
+import it.korea.app_bmpc.store.repository.StoreSearchBatchRepository;
+import it.korea.app_bmpc.store.repository.StoreSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가게 검색 테이블(bmpc_store_search) 동기화 서비스
+ * 가게/메뉴/리뷰 변경 이벤트가 오면 해당 가게 한 건을, 재생성 작업에서는 전체 가게를 묶음 단위로 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreSearchSyncService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final StoreSearchRepository storeSearchRepository;
+    private final StoreSearchBatchRepository storeSearchBatchRepository;
+
+    @Value("${store.search.read-model.enabled:true}")
+    private boolean enabled;   // 가게 검색 테이블 사용 여부
+
+    private volatile boolean ready = false;   // 가게 검색 테이블 사용 가능 여부
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);   // 재생성 중복 실행 방지
+
+    /**
+     * 서버 기동이 끝나면 검색 테이블이 비어있는 경우에만 한 번 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            if (storeSearchRepository.count() == 0) {
+                rebuild();
+            }
+
+            ready = true;
+        } catch (Exception e) {
+            log.error("가게 검색 테이블 초기화 중 오류 발생. 기존 검색 쿼리를 사용함. {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 가게 검색 테이블 사용 가능 여부
+     * @return
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * 가게 한 건의 검색 정보 동기화
+     * 커밋 후 이벤트에서 호출되므로 새 트랜잭션에서 저장한다.
+     * @param storeId 가게 아이디
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void sync(int storeId) {
+        if (!enabled) {
+            return;
+        }
+
+        syncChunk(List.of(storeId));
+    }
+
+    /**
+     * 매일 새벽 전체 재생성 (이벤트 유실 등으로 어긋난 데이터 보정)
+     */
+    @Scheduled(cron = "${store.search.read-model.rebuild-cron:0 30 4 * * *}")
+    @SchedulerLock(name = "storeSearchRebuild", lockAtMostForMs = 1800000, lockAtLeastForMs = 60000)
+    public void scheduledRebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            rebuild();
+            ready = true;
+        } catch (Exception e) {
+            log.error("가게 검색 테이블 재생성 중 오류 발생. {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 가게 검색 테이블 전체 재생성
+     * 삭제되지 않은 가게를 아이디 순으로 묶음 단위로 다시 저장하고, 삭제된 가게의 검색 정보는 지운다.
+     * @return 재생성한 가게 수 (이미 재생성 중이면 -1)
+     */
+    public int rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.warn("가게 검색 테이블 재생성이 이미 실행 중입니다.");
+            return -1;
+        }
+
+        try {
+            List<Integer> storeIdList = storeSearchRepository.findAllActiveStoreId();
+
+            for (int i = 0; i < storeIdList.size(); i += CHUNK_SIZE) {
+                syncChunk(storeIdList.subList(i, Math.min(i + CHUNK_SIZE, storeIdList.size())));
+            }
+
+            int deleteCount = storeSearchBatchRepository.deleteInactiveStoreSearch();
+
+            log.info("가게 검색 테이블 재생성 완료. 가게 수: {}, 삭제 수: {}", storeIdList.size(), deleteCount);
+
+            return storeIdList.size();
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 가게 묶음의 검색 정보를 쿼리 3번으로 모아서 저장
+     * 삭제됐거나 없는 가게는 검색 테이블에서 지운다.
+     * @param storeIdList 가게 아이디 리스트
+     */
+    private void syncChunk(Collection<Integer> storeIdList) {
+        Map<Integer, TreeSet<Integer>> categoryMap = new HashMap<>();
+        Map<Integer, List<String>> menuNameMap = new HashMap<>();
+
+        for (StoreCategoryIdProjection category : storeSearchRepository.findCategoryIdByStoreIdIn(storeIdList)) {
+            categoryMap.computeIfAbsent(category.getStoreId(), k -> new TreeSet<>()).add(category.getCaId());
+        }
+
+        for (StoreMenuNameProjection menu : storeSearchRepository.findActiveMenuNameByStoreIdIn(storeIdList)) {
+            menuNameMap.computeIfAbsent(menu.getStoreId(), k -> new ArrayList<>()).add(menu.getMenuName());
+        }
+
+        List<StoreSearchEntity> entityList = new ArrayList<>();
+        Set<Integer> removeSet = new HashSet<>(storeIdList);
+
+        for (StoreSearchSourceProjection source : storeSearchRepository.findSourceByStoreIdIn(storeIdList)) {
+            List<String> menuNameList = menuNameMap.getOrDefault(source.getStoreId(), List.of());
+            TreeSet<Integer> caIdSet = categoryMap.get(source.getStoreId());
+
+            StoreSearchEntity entity = new StoreSearchEntity();
+            entity.setStoreId(source.getStoreId());
+            entity.setStoreName(source.getStoreName());
+            entity.setLatitude(source.getLatitude());
+            entity.setLongitude(source.getLongitude());
+            entity.setCategoryIds(caIdSet == null ? ","
+                : caIdSet.stream().map(String::valueOf).collect(Collectors.joining(",", ",", ",")));
+            entity.setSearchText(source.getStoreName()
+                + (menuNameList.isEmpty() ? "" : "\n" + String.join("\n", menuNameList)));
+            entity.setMenuYn(menuNameList.isEmpty() ? "N" : "Y");
+            entity.setRatingAvg(source.getRatingAvg());
+            entity.setReviewCount(source.getReviewCount() != null ? source.getReviewCount() : 0);
+            entity.setMinPrice(source.getMinPrice() != null ? source.getMinPrice() : 0);
+            entity.setUpdateDate(source.getUpdateDate());
+
+            entityList.add(entity);
+            removeSet.remove(source.getStoreId());
+        }
+
+        if (!entityList.isEmpty()) {
+            storeSearchBatchRepository.upsertStoreSearchList(entityList);
+        }
+
+        if (!removeSet.isEmpty()) {
+            storeSearchBatchRepository.deleteStoreSearchList(removeSet);
+        }
+    }
+}
@@ -5,43 +5,70 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import it.korea.app_bmpc.admin.dto.AdminStoreBulkStatusRequestDTO;
 import it.korea.app_bmpc.admin.dto.AdminStoreSearchDTO;
 import it.korea.app_bmpc.admin.dto.AdminStoreStatusRequestDTO;
 import it.korea.app_bmpc.common.dto.PageInfo;
+import it.korea.app_bmpc.common.dto.SliceInfo;
 import it.korea.app_bmpc.common.utils.FileUtils;
+import it.korea.app_bmpc.common.utils.GeoUtils;
 import it.korea.app_bmpc.config.WebConfig;
 import it.korea.app_bmpc.kakao.dto.KakaoAddressResponseDTO;
+import it.korea.app_bmpc.menu.dto.MenuCategoryDTO;
+import it.korea.app_bmpc.menu.repository.MenuCategoryRepository;
+import it.korea.app_bmpc.menu.repository.MenuOptionGroupRepository;
+import it.korea.app_bmpc.menu.repository.MenuOptionRepository;
+import it.korea.app_bmpc.menu.repository.MenuRepository;
 import it.korea.app_bmpc.kakao.service.KakaoAddressService;
-import it.korea.app_bmpc.order.entity.OrderEntity;
 import it.korea.app_bmpc.order.repository.OrderRepository;
-import it.korea.app_bmpc.popular.entity.PopularKeywordEntity;
-import it.korea.app_bmpc.popular.entity.SearchLogEntity;
-import it.korea.app_bmpc.popular.repository.PopularKeywordRepository;
-import it.korea.app_bmpc.popular.repository.SearchLogRepository;
+import it.korea.app_bmpc.order.service.OrderService;
+import it.korea.app_bmpc.popular.service.PopularKeywordCounterService;
+import it.korea.app_bmpc.popular.service.SearchLogBufferService;
 import it.korea.app_bmpc.store.dto.CategoryDTO;
+import it.korea.app_bmpc.store.dto.StoreCursorDTO;
 import it.korea.app_bmpc.store.dto.StoreDTO;
 import it.korea.app_bmpc.store.dto.StoreFileDTO;
+import it.korea.app_bmpc.store.dto.StoreIdProjection;
+import it.korea.app_bmpc.store.dto.StoreRankProjection;
 import it.korea.app_bmpc.store.dto.StoreSearchDTO;
 import it.korea.app_bmpc.store.entity.StoreCategoryEntity;
 import it.korea.app_bmpc.store.entity.StoreEntity;
 import it.korea.app_bmpc.store.entity.StoreFileEntity;
 import it.korea.app_bmpc.store.entity.StoreHourEntity;
+import it.korea.app_bmpc.store.entity.StoreSearchEntity;
+import it.korea.app_bmpc.store.event.StoreBulkChangedEvent;
+import it.korea.app_bmpc.store.event.StoreChangedEvent;
 import it.korea.app_bmpc.store.repository.CategoryRepository;
 import it.korea.app_bmpc.store.repository.StoreRepository;
 import it.korea.app_bmpc.store.repository.AdminStoreSearchSpecification;
+import it.korea.app_bmpc.store.repository.StoreSearchReadSpecification;
+import it.korea.app_bmpc.store.repository.StoreSearchRepository;
 import it.korea.app_bmpc.store.repository.StoreSearchSpecification;
 import it.korea.app_bmpc.user.entity.UserEntity;
 import it.korea.app_bmpc.user.repository.UserRepository;
@@ -56,13 +83,50 @@ public class StoreService {
     private final WebConfig webConfig;
 
     private final StoreRepository storeRepository;
+    private final StoreSearchRepository storeSearchRepository;
     private final CategoryRepository categoryRepository;
+    private final MenuCategoryRepository menuCategoryRepository;
+    private final MenuRepository menuRepository;
+    private final MenuOptionGroupRepository menuOptionGroupRepository;
+    private final MenuOptionRepository menuOptionRepository;
     private final UserRepository userRepository;
     private final OrderRepository orderRepository;
-    private final SearchLogRepository searchLogRepository;
-    private final PopularKeywordRepository popularKeywordRepository;
+    private final OrderService orderService;
+    private final SearchLogBufferService searchLogBufferService;
+    private final PopularKeywordCounterService popularKeywordCounterService;
+    private final StoreSearchCacheService storeSearchCacheService;
+    private final StoreHourBitmapService storeHourBitmapService;
+    private final StorePopularRegionService storePopularRegionService;
+    private final StoreDetailCacheService storeDetailCacheService;
+    private final StoreSearchSyncService storeSearchSyncService;
     private final KakaoAddressService kakaoAddressService;
     private final FileUtils fileUtils;
+    private final StoreGeoIndexService storeGeoIndexService;
+    private final StoreTextIndexService storeTextIndexService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String SORT_DISTANCE = "distance";
+    private static final String SORT_RATING = "rating";
+    private static final String SORT_ID = "id";
+    private static final int MAX_LIST_SIZE = 50;   // 무한 스크롤, 동네 인기 가게에서 한 번에 가져올 수 있는 최대 가게 수
+    private static final int MAX_RANK_WINDOW = 500;   // 추천순에서 볼 수 있는 최대 순위 (힙 크기 상한)
+    private static final int MAX_DISTANCE_CHUNK_SIZE = 1000;   // 거리순 무한 스크롤에서 한 번에 DB 로 확인할 최대 후보 수 (IN 절 크기)
+
+    // 가게 검색 테이블(StoreSearchEntity)에도 있는 정렬 컬럼 (그 외 정렬은 기존 가게 테이블 검색으로 처리)
+    private static final Set<String> READ_MODEL_SORT_SET =
+        Set.of("storeId", "storeName", "ratingAvg", "reviewCount", "minPrice", "updateDate", "latitude", "longitude");
+
+    // 추천순 점수 가중치 (합계 1)
+    private static final double RANK_WEIGHT_DISTANCE = 0.35;
+    private static final double RANK_WEIGHT_RATING = 0.25;
+    private static final double RANK_WEIGHT_REVIEW = 0.10;
+    private static final double RANK_WEIGHT_OPEN = 0.20;
+    private static final double RANK_WEIGHT_TEXT = 0.10;
+    private static final double RANK_PRIOR_RATING = 3.5;       // 리뷰가 적은 가게에 적용할 기본 별점
+    private static final double RANK_PRIOR_REVIEW_COUNT = 10;  // 기본 별점을 리뷰 몇 개 분량으로 볼지
+
+    @Value("${store.search.radius-km:4.0}")
+    private double searchRadiusKm;   // 가게 검색 반경(km)
 
     /**
      * 가게 카테고리 리스트 가져오기 
@@ -78,71 +142,365 @@ public class StoreService {
      * 가게 리스트 가져오기
      * @param pageable 페이징 객체
      * @param searchDTO 검색 내용
+     * @param optResponse 사용자 주소를 카카오 API 로 변환한 위도/경도 값
      * @return
      * @throws Exception
      */
-    @Transactional
-    public Map<String, Object> getStoreList(Pageable pageable, StoreSearchDTO searchDTO) throws Exception {
+    @Transactional(readOnly = true)
+    public Map<String, Object> getStoreList(Pageable pageable, StoreSearchDTO searchDTO, Optional<KakaoAddressResponseDTO> optResponse) throws Exception {
         Map<String, Object> resultMap = new HashMap<>();
 
         Page<StoreEntity> pageList = null;
 
-        // 넘어온 사용자의 주소값으로 카카오 API 호출해서 위도/경도 값 얻어오기
-        Optional<KakaoAddressResponseDTO> optResponse = kakaoAddressService.getLocation(searchDTO.getAddr());
+        // 캐시 키는 요청 값(격자로 묶은 사용자 좌표, 검색어, 필터, 페이징)만으로 만들고, 인덱스 후보 계산은 캐시에 없을 때만 함
+        applyUserLocation(searchDTO, optResponse);
 
-        BigDecimal userLatitude = null;
-        BigDecimal userLongitude = null;
+        StoreSearchCacheService.SearchKey cacheKey = storeSearchCacheService.createKey(searchDTO, pageable);
+        StoreSearchCacheService.SearchResult cachedResult = storeSearchCacheService.get(cacheKey);
 
-        if (optResponse.isPresent()) {
-            KakaoAddressResponseDTO responseDto = optResponse.get();
-            String latitudeStr = responseDto.getDocuments().get(0).getY();
-            String longitudeStr = responseDto.getDocuments().get(0).getX();
+        if (cachedResult != null) {
+            // 캐시에는 가게 아이디 순서만 있으므로 가게 정보는 새로 가져와서 같은 순서로 배치
+            Map<Integer, StoreEntity> entityMap = new HashMap<>();
 
-            userLatitude  = new BigDecimal(latitudeStr).setScale(7, RoundingMode.DOWN);   // 소수점 7자리 까지만
-            userLongitude = new BigDecimal(longitudeStr).setScale(7, RoundingMode.DOWN);   // 소수점 7자리 까지만
+            if (!cachedResult.getStoreIdList().isEmpty()) {
+                storeRepository.findAllByStoreIdIn(cachedResult.getStoreIdList())
+                    .forEach(entity -> entityMap.put(entity.getStoreId(), entity));
+            }
+
+            List<StoreEntity> entityList = cachedResult.getStoreIdList().stream()
+                .map(entityMap::get)
+                .filter(entity -> entity != null)
+                .toList();
+
+            pageList = new PageImpl<>(entityList, pageable, cachedResult.getTotalElements());
         } else {
-            log.warn("카카오 맵 API 호출 실패. 가게 검색시 반경 필터링 하지 않음");
-        }
+            // 인덱스로 걸러낸 후보 가게를 searchDTO 에 저장 (반경 필터는 사용자 좌표 그대로 사용)
+            applyIndexCondition(searchDTO);
+
+            if (searchDTO.getCandidateStoreIds() != null && searchDTO.getCandidateStoreIds().isEmpty()) {
+                // 후보 가게가 하나도 없다면 DB 조회 생략
+                pageList = Page.empty(pageable);
+            } else if (storeSearchSyncService.isReady() && isReadModelSortable(pageable.getSort())) {
+                // 조인 없이 가게 검색 테이블 한 곳에서 아이디를 찾고, 화면에 필요한 가게 정보는 아이디로 한 번에 가져옴
+                Page<StoreSearchEntity> searchPage = storeSearchRepository.findAll(new StoreSearchReadSpecification(searchDTO), pageable);
+                Map<Integer, StoreEntity> entityMap = new HashMap<>();
+
+                if (searchPage.hasContent()) {
+                    storeRepository.findAllByStoreIdIn(searchPage.getContent().stream().map(StoreSearchEntity::getStoreId).toList())
+                        .forEach(entity -> entityMap.put(entity.getStoreId(), entity));
+                }
 
-        log.info("사용자 좌표) " + userLatitude + ", " + userLongitude);
+                List<StoreEntity> entityList = searchPage.getContent().stream()
+                    .map(search -> entityMap.get(search.getStoreId()))
+                    .filter(entity -> entity != null)
+                    .toList();
 
-        // searchDTO 에 사용자 좌표 저장
-        searchDTO.setUserLatitude(userLatitude);
-        searchDTO.setUserLongitude(userLongitude);
+                pageList = new PageImpl<>(entityList, pageable, searchPage.getTotalElements());
+            } else {
+                StoreSearchSpecification searchSpecification = new StoreSearchSpecification(searchDTO);
+                pageList = storeRepository.findAll(searchSpecification, pageable);
+            }
 
-        StoreSearchSpecification searchSpecification = new StoreSearchSpecification(searchDTO);
-        pageList = storeRepository.findAll(searchSpecification, pageable);
+            storeSearchCacheService.put(cacheKey,
+                pageList.getContent().stream().map(StoreEntity::getStoreId).toList(), pageList.getTotalElements());
+        }
 
+        // 영업 여부는 캐시 여부와 관계없이 지금 시간 기준으로 계산됨
         List<StoreDTO.Response> storeList = pageList.getContent().stream().map(StoreDTO.Response::of).toList();
 
         resultMap.put("content", storeList);
         resultMap.put("pageInfo", PageInfo.of(pageList));
 
-        // 검색어가 존재하고, 검색 결과가 있을 경우에만 검색 로그 테이블에 저장
+        // 검색어가 존재하고, 검색 결과가 있을 경우에만 검색 로그 버퍼에 추가 (저장은 백그라운드에서 배치로 처리)
         if (StringUtils.isNotBlank(searchDTO.getSearchText()) && searchDTO.getSearchText().trim().length() >= 2 && !storeList.isEmpty()) {
             String keyword = searchDTO.getSearchText().trim();
 
-            SearchLogEntity searchLog = new SearchLogEntity();
-            searchLog.setSearchText(keyword);
+            searchLogBufferService.add(keyword);
+            popularKeywordCounterService.increment(keyword);
+        }
+
+        return resultMap;
+    }
+
+    /**
+     * 가게 검색 테이블로 처리할 수 있는 정렬인지 확인
+     * @param sort 정렬 조건
+     * @return 가게 검색 테이블에 모든 정렬 컬럼이 있으면 true
+     */
+    private boolean isReadModelSortable(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!READ_MODEL_SORT_SET.contains(order.getProperty())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 가게 리스트 가져오기 (무한 스크롤)
+     * 전체 개수 count 쿼리 없이 마지막 가게의 정렬 값과 아이디를 커서로 사용해서 다음 가게들을 가져온다.
+     * @param searchDTO 검색 내용
+     * @param optResponse 사용자 주소를 카카오 API 로 변환한 위도/경도 값
+     * @param sortType 정렬 기준 (distance, rating, id)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 가져올 가게 수
+     * @return
+     * @throws Exception
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getStoreListByCursor(StoreSearchDTO searchDTO, Optional<KakaoAddressResponseDTO> optResponse,
+            String sortType, String cursor, int size) throws Exception {
+
+        Map<String, Object> resultMap = new HashMap<>();
+
+        int limit = Math.max(1, Math.min(size, MAX_LIST_SIZE));
+
+        // 사용자 좌표와 인덱스로 걸러낸 후보 가게를 searchDTO 에 저장
+        Map<Integer, Double> distanceMap = applySearchCondition(searchDTO, optResponse);
 
-            searchLogRepository.save(searchLog);
+        // 거리순은 공간 인덱스로 거리를 구했을 때만 가능하므로 그렇지 않으면 아이디순으로 대체
+        if (!SORT_RATING.equals(sortType) && !(SORT_DISTANCE.equals(sortType) && distanceMap != null)) {
+            sortType = SORT_ID;
+        }
 
-            // 만약 해당 키워드로 인기 검색어 요약이 존재했다면 단순히 searchCount만 증가시키고, 없었다면 새로 등록한다.
-            popularKeywordRepository.findByKeyword(keyword)
-                .ifPresentOrElse(PopularKeywordEntity::incrementSearchCount,
-                    ()-> {
-                        PopularKeywordEntity popularKeyword = new PopularKeywordEntity();
-                        popularKeyword.setKeyword(keyword);
-                        popularKeyword.setSearchCount(1);
-                        popularKeyword.setLastSearchDate(LocalDateTime.now());
+        StoreCursorDTO cursorDTO = null;
 
-                        popularKeywordRepository.save(popularKeyword);
-                    });
+        if (StringUtils.isNotBlank(cursor)) {
+            cursorDTO = StoreCursorDTO.decode(cursor);
+
+            if (!sortType.equals(cursorDTO.getSortType())) {
+                throw new RuntimeException("정렬 기준이 변경되었습니다. 처음부터 다시 조회해주세요.");
+            }
         }
-        
+
+        List<Integer> storeIdList = new ArrayList<>();
+        boolean hasNext = false;
+
+        if (searchDTO.getCandidateStoreIds() != null && searchDTO.getCandidateStoreIds().isEmpty()) {
+            // 후보 가게가 하나도 없다면 DB 조회 생략
+            hasNext = false;
+        } else if (SORT_DISTANCE.equals(sortType)) {
+            hasNext = findStoreIdListByDistance(searchDTO, distanceMap, cursorDTO, limit, storeIdList);
+        } else {
+            Specification<StoreEntity> spec = new StoreSearchSpecification(searchDTO);
+            Sort sort = null;
+
+            if (SORT_RATING.equals(sortType)) {
+                sort = Sort.by(Sort.Order.desc("ratingAvg"), Sort.Order.desc("storeId"));
+
+                if (cursorDTO != null) {
+                    BigDecimal lastRating = new BigDecimal(cursorDTO.getSortValue());
+                    int lastStoreId = cursorDTO.getStoreId();
+
+                    // (별점, 아이디) 가 마지막 가게보다 뒤에 있는 가게만
+                    spec = spec.and((root, query, cb) -> cb.or(
+                        cb.lessThan(root.<BigDecimal>get("ratingAvg"), lastRating),
+                        cb.and(
+                            cb.equal(root.<BigDecimal>get("ratingAvg"), lastRating),
+                            cb.lessThan(root.<Integer>get("storeId"), lastStoreId))));
+                }
+            } else {
+                sort = Sort.by(Sort.Order.desc("storeId"));
+
+                if (cursorDTO != null) {
+                    int lastStoreId = cursorDTO.getStoreId();
+
+                    spec = spec.and((root, query, cb) -> cb.lessThan(root.<Integer>get("storeId"), lastStoreId));
+                }
+            }
+
+            Sort finalSort = sort;
+
+            // 다음 페이지 존재 여부는 하나 더 가져와서 판단
+            List<StoreEntity> entityList = storeRepository.findBy(spec, q -> q.sortBy(finalSort).limit(limit + 1).all());
+
+            hasNext = entityList.size() > limit;
+            entityList.stream().limit(limit).forEach(entity -> storeIdList.add(entity.getStoreId()));
+        }
+
+        // 파일, 영업시간, 카테고리를 한 번에 가져온 뒤 정렬 순서대로 다시 배치
+        Map<Integer, StoreEntity> entityMap = new HashMap<>();
+
+        if (!storeIdList.isEmpty()) {
+            storeRepository.findAllByStoreIdIn(storeIdList).forEach(entity -> entityMap.put(entity.getStoreId(), entity));
+        }
+
+        List<StoreDTO.Response> storeList = storeIdList.stream()
+            .map(entityMap::get)
+            .filter(entity -> entity != null)
+            .map(StoreDTO.Response::of)
+            .toList();
+
+        String nextCursor = null;
+
+        if (hasNext && !storeList.isEmpty()) {
+            int lastStoreId = storeIdList.get(storeIdList.size() - 1);
+            String sortValue = "";
+
+            if (SORT_DISTANCE.equals(sortType)) {
+                sortValue = String.valueOf(distanceMap.get(lastStoreId));
+            } else if (SORT_RATING.equals(sortType)) {
+                StoreEntity lastEntity = entityMap.get(lastStoreId);
+                sortValue = (lastEntity.getRatingAvg() != null ? lastEntity.getRatingAvg() : BigDecimal.ZERO).toPlainString();
+            }
+
+            nextCursor = new StoreCursorDTO(sortType, sortValue, lastStoreId).encode();
+        }
+
+        Slice<StoreDTO.Response> slice = new SliceImpl<>(storeList, PageRequest.of(0, limit), hasNext);
+
+        resultMap.put("content", storeList);
+        resultMap.put("sliceInfo", SliceInfo.of(slice, nextCursor));
+
         return resultMap;
     }
 
+    /**
+     * 가게 리스트 가져오기 (추천순)
+     * 후보 가게마다 거리, 별점, 리뷰수, 영업 여부, 검색어 일치 정도로 점수를 매기고
+     * 전체를 정렬하지 않고 요청한 페이지까지만 힙에 남겨서 해당 페이지를 잘라낸다.
+     * 후보는 스트림으로 한 건씩 읽어서 점수만 힙에 남기고, 주소나 검색어가 없으면 전체 가게가 후보가 되므로 허용하지 않는다.
+     * MAX_RANK_WINDOW 순위를 넘는 페이지는 빈 페이지를 준다.
+     * @param searchDTO 검색 내용
+     * @param optResponse 사용자 주소를 카카오 API 로 변환한 위도/경도 값
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return
+     * @throws Exception
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getStoreListByRank(StoreSearchDTO searchDTO, Optional<KakaoAddressResponseDTO> optResponse,
+            int page, int size) throws Exception {
+
+        Map<String, Object> resultMap = new HashMap<>();
+
+        int pageSize = Math.max(1, Math.min(size, MAX_LIST_SIZE));
+        int pageNumber = Math.max(0, page);
+        Pageable pageable = PageRequest.of(pageNumber, pageSize);
+
+        // 사용자 좌표와 인덱스로 걸러낸 후보 가게를 searchDTO 에 저장
+        Map<Integer, Double> distanceMap = applySearchCondition(searchDTO, optResponse);
+
+        if ((searchDTO.getUserLatitude() == null || searchDTO.getUserLongitude() == null)
+                && StringUtils.isBlank(searchDTO.getSearchText())) {
+            throw new RuntimeException("추천순 검색은 주소 또는 검색어가 필요합니다.");
+        }
+
+        // 볼 수 있는 순위를 넘은 페이지는 후보 조회 없이 빈 페이지
+        if ((long) pageNumber * pageSize >= MAX_RANK_WINDOW) {
+            resultMap.put("content", List.of());
+            resultMap.put("pageInfo", PageInfo.of(new PageImpl<>(List.of(), pageable, MAX_RANK_WINDOW)));
+
+            return resultMap;
+        }
+
+        boolean hasLocation = searchDTO.getUserLatitude() != null && searchDTO.getUserLongitude() != null;
+        double userLat = hasLocation ? searchDTO.getUserLatitude().doubleValue() : 0;
+        double userLon = hasLocation ? searchDTO.getUserLongitude().doubleValue() : 0;
+        boolean checkOpen = storeHourBitmapService.isReady();
+        String keyword = StringUtils.isNotBlank(searchDTO.getSearchText()) ? storeTextIndexService.normalize(searchDTO.getSearchText()) : "";
+        LocalDateTime now = LocalDateTime.now();
+
+        StoreRankHeap rankHeap = new StoreRankHeap(Math.min((pageNumber + 1) * pageSize, MAX_RANK_WINDOW));
+        int candidateCount = 0;
+
+        if (searchDTO.getCandidateStoreIds() == null || !searchDTO.getCandidateStoreIds().isEmpty()) {
+            // 점수 계산에 필요한 컬럼만 스트림으로 읽어서 힙에 넣고 버림 (후보 전체를 리스트로 들고 있지 않음)
+            try (Stream<StoreRankProjection> candidateStream = storeSearchSyncService.isReady()
+                    ? storeSearchRepository.findBy(new StoreSearchReadSpecification(searchDTO), q -> q.as(StoreRankProjection.class).stream())
+                    : storeRepository.findBy(new StoreSearchSpecification(searchDTO), q -> q.as(StoreRankProjection.class).stream())) {
+
+                Iterator<StoreRankProjection> iterator = candidateStream.iterator();
+
+                while (iterator.hasNext()) {
+                    StoreRankProjection candidate = iterator.next();
+                    rankHeap.offer(candidate.getStoreId(),
+                        getRankScore(candidate, distanceMap, hasLocation, userLat, userLon, checkOpen, keyword, now));
+                    candidateCount++;
+                }
+            }
+        }
+
+        // 힙에서 점수 높은 순으로 꺼낸 뒤 요청한 페이지만 잘라냄
+        int[] rankedIds = rankHeap.drainDescending();
+        List<Integer> storeIdList = new ArrayList<>(pageSize);
+
+        for (int i = pageNumber * pageSize; i < rankedIds.length; i++) {
+            storeIdList.add(rankedIds[i]);
+        }
+
+        // 파일, 영업시간, 카테고리를 한 번에 가져온 뒤 점수 순서대로 다시 배치
+        Map<Integer, StoreEntity> entityMap = new HashMap<>();
+
+        if (!storeIdList.isEmpty()) {
+            storeRepository.findAllByStoreIdIn(storeIdList).forEach(entity -> entityMap.put(entity.getStoreId(), entity));
+        }
+
+        List<StoreDTO.Response> storeList = storeIdList.stream()
+            .map(entityMap::get)
+            .filter(entity -> entity != null)
+            .map(StoreDTO.Response::of)
+            .toList();
+
+        resultMap.put("content", storeList);
+        // 전체 개수는 볼 수 있는 순위(MAX_RANK_WINDOW)까지만 알려줌
+        resultMap.put("pageInfo", PageInfo.of(new PageImpl<>(storeList, pageable, Math.min(candidateCount, MAX_RANK_WINDOW))));
+
+        return resultMap;
+    }
+
+    /**
+     * 추천순 점수 계산 (0 ~ 1)
+     * @param candidate 후보 가게
+     * @param distanceMap 공간 인덱스에서 계산한 가게별 거리
+     * @param hasLocation 사용자 좌표 존재 여부
+     * @param userLat 사용자 위도
+     * @param userLon 사용자 경도
+     * @param checkOpen 영업 여부 반영 여부
+     * @param keyword 정규화한 검색어
+     * @param now 현재 시간
+     * @return 점수
+     */
+    private double getRankScore(StoreRankProjection candidate, Map<Integer, Double> distanceMap, boolean hasLocation,
+            double userLat, double userLon, boolean checkOpen, String keyword, LocalDateTime now) {
+
+        int storeId = candidate.getStoreId();
+
+        // 거리 점수: 가까울수록 1, 반경 끝이면 0 (좌표를 모르면 0)
+        double distanceScore = 0;
+
+        if (hasLocation) {
+            Double distance = distanceMap != null ? distanceMap.get(storeId) : null;
+
+            if (distance == null && candidate.getLatitude() != null && candidate.getLongitude() != null) {
+                distance = GeoUtils.distance(userLat, userLon,
+                    candidate.getLatitude().doubleValue(), candidate.getLongitude().doubleValue());
+            }
+
+            if (distance != null) {
+                distanceScore = Math.max(0, 1 - distance / searchRadiusKm);
+            }
+        }
+
+        // 별점 점수: 리뷰가 적은 가게의 별점은 평균(RANK_PRIOR_RATING) 쪽으로 당겨서 반영
+        int reviewCount = candidate.getReviewCount() != null ? candidate.getReviewCount() : 0;
+        double ratingAvg = candidate.getRatingAvg() != null ? candidate.getRatingAvg().doubleValue() : 0;
+        double ratingScore = (ratingAvg * reviewCount + RANK_PRIOR_RATING * RANK_PRIOR_REVIEW_COUNT)
+            / (reviewCount + RANK_PRIOR_REVIEW_COUNT) / 5.0;
+
+        // 리뷰수 점수: 로그 스케일 (리뷰 1000개면 1)
+        double reviewScore = Math.min(1, Math.log1p(reviewCount) / Math.log1p(1000));
+
+        double openScore = !checkOpen || storeHourBitmapService.isOpen(storeId, now) ? 1 : 0;
+
+        return RANK_WEIGHT_DISTANCE * distanceScore
+            + RANK_WEIGHT_RATING * ratingScore
+            + RANK_WEIGHT_REVIEW * reviewScore
+            + RANK_WEIGHT_OPEN * openScore
+            + RANK_WEIGHT_TEXT * getTextMatchScore(storeId, keyword);
+    }
+
     /**
      * 가게 리스트 가져오기 (어드민)
      * @param pageable 페이징 객체
@@ -173,10 +531,9 @@ public class StoreService {
      * @return
      * @throws Exception
      */
-    @Transactional(readOnly = true)
     public StoreDTO.Detail getStore(int storeId) throws Exception {
-        return StoreDTO.Detail.of(storeRepository.getStore(storeId)
-            .orElseThrow(()-> new RuntimeException("해당 가게가 존재하지 않습니다.")));
+        // 캐시에 있으면 DB 를 거치지 않고, 없으면 가게별로 한 번만 조회해서 캐시에 저장
+        return storeDetailCacheService.getDetail(storeId);
     }
 
     /**
@@ -201,8 +558,14 @@ public class StoreService {
 
         int storeId = storeEntity.getStoreId();
 
-        return StoreDTO.OwnerDetail.of(storeRepository.getStore(storeId)
-            .orElseThrow(()-> new RuntimeException("해당 가게가 존재하지 않습니다.")));
+        StoreEntity entity = storeRepository.getStore(storeId)
+            .orElseThrow(()-> new RuntimeException("해당 가게가 존재하지 않습니다."));
+
+        // 메뉴 트리는 엔티티 대신 flat 조회 결과로 조립 (삭제된 메뉴는 SQL 에서 제외됨)
+        List<MenuCategoryDTO.Response> menuCategoryList =
+            MenuCategoryDTO.Response.ofTree(menuCategoryRepository.findMenuTreeByStoreId(storeId));
+
+        return StoreDTO.OwnerDetail.of(entity, menuCategoryList);
     }
 
     /**
@@ -328,6 +691,8 @@ public class StoreService {
         // 사용자와 가게 매핑
         userEntity.setStore(entity);
         userRepository.save(userEntity);
+
+        eventPublisher.publishEvent(new StoreChangedEvent(entity.getStoreId()));
     }
 
     /**
@@ -469,6 +834,8 @@ public class StoreService {
 
         storeRepository.save(entity);
 
+        eventPublisher.publishEvent(new StoreChangedEvent(entity.getStoreId()));
+
         if (request.getMainImage() != null && !request.getMainImage().isEmpty()) {
             // 2-3. 기존 파일 삭제 (작업 도중 DB에 문제가 생길 수도 있기 때문에 물리적 파일 삭제는 제일 마지막에 진행)
             // 가게 상세 정보 DTO 가 가지고 있는 파일 DTO 리스트 순회
@@ -520,6 +887,78 @@ public class StoreService {
         }
 
         storeRepository.save(store);
+
+        eventPublisher.publishEvent(new StoreChangedEvent(store.getStoreId()));
+    }
+
+    /**
+     * 가게 영업 상태 일괄 변경하기 (어드민)
+     * 가게 아이디 리스트가 있으면 해당 가게들을, 없으면 검색 조건에 맞는 가게 전체를 대상으로 한다.
+     * 실수로 전체 가게가 바뀌지 않도록 검색어와 카테고리가 모두 비어있는 검색 조건은 허용하지 않는다.
+     * 가게마다 엔티티를 불러와 수정하지 않고 영업시간 휴무 여부를 update 한 번으로 변경한다.
+     * @param request 가게 영업 상태 일괄 변경 객체
+     * @return
+     * @throws Exception
+     */
+    @Transactional
+    public Map<String, Object> changeStoreStatusBulkByAdmin(AdminStoreBulkStatusRequestDTO request) throws Exception {
+        Map<String, Object> resultMap = new HashMap<>();
+
+        List<Integer> storeIdList = null;
+
+        if (request.getStoreIdList() != null && !request.getStoreIdList().isEmpty()) {
+            storeIdList = storeRepository.findActiveStoreIdByStoreIdIn(new HashSet<>(request.getStoreIdList()));
+        } else if (request.getSearch() != null) {
+            if (StringUtils.isBlank(request.getSearch().getSearchText()) && request.getSearch().getCaId() == 0) {
+                throw new RuntimeException("검색 조건(검색어 또는 카테고리)이 없으면 가게 영업 상태를 일괄 변경할 수 없습니다.");
+            }
+
+            // 가게 엔티티를 불러오지 않고 아이디만 조회
+            storeIdList = storeRepository.findBy(new AdminStoreSearchSpecification(request.getSearch()),
+                    q -> q.as(StoreIdProjection.class).all())
+                .stream()
+                .map(StoreIdProjection::getStoreId)
+                .toList();
+        } else {
+            throw new RuntimeException("변경할 가게 아이디 리스트 또는 검색 조건이 필요합니다.");
+        }
+
+        int hourCount = 0;
+
+        if (!storeIdList.isEmpty()) {
+            hourCount = storeRepository.updateCloseYnByStoreIdList(storeIdList, request.getCloseYn());
+
+            eventPublisher.publishEvent(new StoreBulkChangedEvent(storeIdList));
+        }
+
+        log.info("가게 영업 상태 일괄 변경. 휴무 여부: {}, 가게 수: {}, 영업시간 수: {}", request.getCloseYn(), storeIdList.size(), hourCount);
+
+        resultMap.put("storeCount", storeIdList.size());
+        resultMap.put("hourCount", hourCount);
+
+        return resultMap;
+    }
+
+    /**
+     * 가게 검색 테이블 재생성하기 (어드민)
+     * @return
+     * @throws Exception
+     */
+    public Map<String, Object> rebuildStoreSearchByAdmin() throws Exception {
+        Map<String, Object> resultMap = new HashMap<>();
+
+        int storeCount = storeSearchSyncService.rebuild();
+
+        if (storeCount < 0) {
+            throw new RuntimeException("가게 검색 테이블 재생성이 이미 진행 중입니다.");
+        }
+
+        // 재생성 전후로 검색 결과가 달라질 수 있으므로 검색 결과 캐시 삭제
+        storeSearchCacheService.evictAll();
+
+        resultMap.put("storeCount", storeCount);
+
+        return resultMap;
     }
 
     /**
@@ -554,30 +993,8 @@ public class StoreService {
 
         entity.setDelYn("Y");  // 삭제 여부 Y로 변경 
         
-        // 메뉴 카테고리 -> 메뉴 -> 메뉴옵션그룹 -> 메뉴옵션의 삭제 여부도 Y로 변경
-        if (entity.getMenuCategoryList() != null && !entity.getMenuCategoryList().isEmpty()) {
-            entity.getMenuCategoryList().forEach(menuCategory -> {
-                menuCategory.setDelYn("Y");
-
-                if (menuCategory.getMenuList() != null && !menuCategory.getMenuList().isEmpty()) {
-                    menuCategory.getMenuList().forEach(menu -> {
-                        menu.setDelYn("Y");
-
-                        if (menu.getMenuOptionGroupList() != null && !menu.getMenuOptionGroupList().isEmpty()) {
-                            menu.getMenuOptionGroupList().forEach(optionGroup -> {
-                                optionGroup.setDelYn("Y");
-
-                                if (optionGroup.getMenuOptionList() != null && !optionGroup.getMenuOptionList().isEmpty()) {
-                                    optionGroup.getMenuOptionList().forEach(option -> {
-                                        option.setDelYn("Y");
-                                    });
-                                }
-                            });
-                        }
-                    });
-                }
-            });
-        }
+        // 메뉴 카테고리 -> 메뉴 -> 메뉴옵션그룹 -> 메뉴옵션의 삭제 여부도 Y로 변경 (엔티티를 불러오지 않고 단계별 일괄 update)
+        softDeleteMenuTree(entity.getStoreId());
 
         storeRepository.save(entity);
 
@@ -586,6 +1003,8 @@ public class StoreService {
         userEntity.setStore(null);
         userRepository.save(userEntity);
 
+        eventPublisher.publishEvent(new StoreChangedEvent(entity.getStoreId()));
+
         // 가게의 삭제 여부를 Y 로 변경만하고 가게의 이미지들은 삭제하지 않음
         // 왜냐하면 주문 내역 등에서 해당 가게의 상세 정보를 보여줘야 하기 때문
     }
@@ -605,50 +1024,13 @@ public class StoreService {
             throw new RuntimeException("이미 삭제된 가게입니다.");
         }
 
-        // 주문완료 상태의 주문을 모두 조회
-        List<OrderEntity> completedOrderList = orderRepository.findAllByStoreAndStatus(entity, "주문완료");
-
-        // 주문완료 상태의 주문들이 아직 존재한다면 모두 취소 처리하고 보유금을 원복시킴
-        if (!completedOrderList.isEmpty()) {
-            completedOrderList.forEach(order -> {
-
-                order.setStatus("주문취소");
-
-                UserEntity user = order.getUser();
-                int totalPrice = order.getTotalPrice();
-                user.setDeposit(user.getDeposit() + totalPrice);  // 보유금 원복
-
-                userRepository.save(user);
-                orderRepository.save(order);
-            });
-        }
+        // 주문완료 상태의 주문들이 아직 존재한다면 모두 취소 처리하고 보유금을 원복시킴 (주문자에게 취소 알림 발송)
+        orderService.cancelAndRefundAllByStore(entity.getStoreId());
 
         entity.setDelYn("Y");  // 삭제 여부 Y로 변경 
         
-        // 메뉴 카테고리 -> 메뉴 -> 메뉴옵션그룹 -> 메뉴옵션의 삭제 여부도 Y로 변경
-        if (entity.getMenuCategoryList() != null && !entity.getMenuCategoryList().isEmpty()) {
-            entity.getMenuCategoryList().forEach(menuCategory -> {
-                menuCategory.setDelYn("Y");
-
-                if (menuCategory.getMenuList() != null && !menuCategory.getMenuList().isEmpty()) {
-                    menuCategory.getMenuList().forEach(menu -> {
-                        menu.setDelYn("Y");
-
-                        if (menu.getMenuOptionGroupList() != null && !menu.getMenuOptionGroupList().isEmpty()) {
-                            menu.getMenuOptionGroupList().forEach(optionGroup -> {
-                                optionGroup.setDelYn("Y");
-
-                                if (optionGroup.getMenuOptionList() != null && !optionGroup.getMenuOptionList().isEmpty()) {
-                                    optionGroup.getMenuOptionList().forEach(option -> {
-                                        option.setDelYn("Y");
-                                    });
-                                }
-                            });
-                        }
-                    });
-                }
-            });
-        }
+        // 메뉴 카테고리 -> 메뉴 -> 메뉴옵션그룹 -> 메뉴옵션의 삭제 여부도 Y로 변경 (엔티티를 불러오지 않고 단계별 일괄 update)
+        softDeleteMenuTree(entity.getStoreId());
 
         storeRepository.save(entity);
 
@@ -658,6 +1040,8 @@ public class StoreService {
             userRepository.save(owner);
         });
 
+        eventPublisher.publishEvent(new StoreChangedEvent(entity.getStoreId()));
+
         // 가게의 삭제 여부를 Y 로 변경만하고 가게의 이미지들은 삭제하지 않음
         // 왜냐하면 주문 내역 등에서 해당 가게의 상세 정보를 보여줘야 하기 때문
     }
@@ -670,31 +1054,240 @@ public class StoreService {
     @Transactional(readOnly = true)
     public List<StoreDTO.Popular> getPopularStoreList() {
 
-        List<OrderEntity> orderEntityList =
-            orderRepository.findByStatusAndOrderDateAfter("배달완료", LocalDateTime.now().minusMonths(1));
+        // DB 에서 가게별 주문수를 집계해서 상위 10개만 가져오기
+        return orderRepository.findStoreOrderCountList("배달완료", LocalDateTime.now().minusMonths(1), PageRequest.of(0, 10))
+            .stream()
+            .map(StoreDTO.Popular::of)
+            .toList();
+    }
 
-        // 가게별 주문수 맵에 저장하기
-        Map<StoreEntity, Integer> storeCountMap = new HashMap<>();
-        for (OrderEntity orderEntity : orderEntityList) {
-            StoreEntity storeEntity = orderEntity.getStore();
-            storeCountMap.put(storeEntity, storeCountMap.getOrDefault(storeEntity, 0) + 1);
+    /**
+     * 사용자 주소 근처 인기 가게 top N 리스트 가져오기 (메모리 랭킹 사용)
+     * @param optResponse 사용자 주소를 카카오 API 로 변환한 위도/경도 값
+     * @param size 가져올 가게 수
+     * @return 주소를 좌표로 변환하지 못했다면 빈 리스트
+     */
+    public List<StoreDTO.Popular> getLocalPopularStoreList(Optional<KakaoAddressResponseDTO> optResponse, int size) {
+        if (optResponse.isEmpty()) {
+            log.warn("카카오 맵 API 호출 실패. 동네 인기 가게를 찾을 수 없음");
+            return List.of();
         }
 
-        // 주문수 기준으로 내림차순 정렬
-        List<Map.Entry<StoreEntity, Integer>> storeCountList = new ArrayList<>(storeCountMap.entrySet());
-        storeCountList.sort((a, b) -> b.getValue().compareTo(a.getValue()));
+        KakaoAddressResponseDTO responseDto = optResponse.get();
+        double latitude = Double.parseDouble(responseDto.getDocuments().get(0).getY());
+        double longitude = Double.parseDouble(responseDto.getDocuments().get(0).getX());
+
+        return storePopularRegionService.getLocalPopularList(latitude, longitude, Math.max(1, Math.min(size, MAX_LIST_SIZE)));
+    }
 
-        // 상위 10개만 DTO로 변환
-        List<StoreDTO.Popular> result = new ArrayList<>();
-        int count = 0;
-        for (Map.Entry<StoreEntity, Integer> entry : storeCountList) {
-            if (count++ >= 10) {
-                break;
+    /**
+     * 가게 하위 메뉴 카테고리, 메뉴, 메뉴 옵션 그룹, 메뉴 옵션 일괄 삭제 처리
+     * 행마다 update 하지 않고 단계별로 update 한 번씩, 총 4번의 쿼리로 끝낸다.
+     * @param storeId 가게 아이디
+     */
+    private void softDeleteMenuTree(int storeId) {
+        int optionCount = menuOptionRepository.softDeleteByStoreId(storeId);
+        int optionGroupCount = menuOptionGroupRepository.softDeleteByStoreId(storeId);
+        int menuCount = menuRepository.softDeleteByStoreId(storeId, LocalDateTime.now());
+        int menuCategoryCount = menuCategoryRepository.softDeleteByStoreId(storeId);
+
+        log.info("가게 {}번 하위 삭제 처리. 메뉴 카테고리: {}, 메뉴: {}, 옵션 그룹: {}, 옵션: {} (update 쿼리 4건)",
+            storeId, menuCategoryCount, menuCount, optionGroupCount, optionCount);
+    }
+
+    /**
+     * 검색어 일치 점수 (가게명과 같으면 1, 가게명이 검색어로 시작하면 0.8, 가게명에 포함되면 0.6, 메뉴명에만 포함되면 0.3)
+     * 텍스트 인덱스의 정규화된 가게명/메뉴명 목록을 사용하므로 DB 조회 없음
+     * @param storeId 가게 아이디
+     * @param keyword 정규화된 검색어 (없으면 빈 문자열)
+     * @return
+     */
+    private double getTextMatchScore(int storeId, String keyword) {
+        if (keyword.isEmpty()) {
+            return 0;
+        }
+
+        List<String> textList = storeTextIndexService.getTextList(storeId);
+
+        if (textList.isEmpty()) {
+            return 0;
+        }
+
+        String storeName = textList.get(0);
+
+        if (storeName.equals(keyword)) {
+            return 1.0;
+        } else if (storeName.startsWith(keyword)) {
+            return 0.8;
+        } else if (storeName.contains(keyword)) {
+            return 0.6;
+        }
+
+        for (int i = 1; i < textList.size(); i++) {
+            if (textList.get(i).contains(keyword)) {
+                return 0.3;
             }
-            result.add(StoreDTO.Popular.of(entry.getKey(), entry.getValue()));
         }
 
-        return result;
+        return 0;
+    }
+
+    /**
+     * 거리순 무한 스크롤용 가게 아이디 찾기
+     * 공간 인덱스로 구한 거리로 후보를 먼저 정렬하고, 커서 이후 후보를 조금씩 DB 조건(카테고리, 삭제 여부 등)으로 확인한다.
+     * DB 에서는 아이디만 조회하고, 조건에 맞는 가게가 적을수록 왕복 횟수가 늘지 않도록 확인할 후보 수를 두 배씩 늘린다.
+     * @param searchDTO 검색 내용
+     * @param distanceMap 후보 가게별 거리(km)
+     * @param cursorDTO 커서 (첫 페이지는 null)
+     * @param limit 가져올 가게 수
+     * @param storeIdList 찾은 가게 아이디를 담을 리스트
+     * @return 다음 페이지 존재 여부
+     */
+    private boolean findStoreIdListByDistance(StoreSearchDTO searchDTO, Map<Integer, Double> distanceMap,
+            StoreCursorDTO cursorDTO, int limit, List<Integer> storeIdList) {
+
+        Comparator<Integer> comparator = Comparator.<Integer>comparingDouble(distanceMap::get).thenComparingInt(id -> id);
+
+        List<Integer> sortedIdList = new ArrayList<>(searchDTO.getCandidateStoreIds());
+        sortedIdList.sort(comparator);
+
+        int index = 0;
+
+        if (cursorDTO != null) {
+            double lastDistance = Double.parseDouble(cursorDTO.getSortValue());
+            int lastStoreId = cursorDTO.getStoreId();
+
+            // (거리, 아이디) 가 마지막 가게보다 뒤에 있는 첫 위치
+            while (index < sortedIdList.size()) {
+                int storeId = sortedIdList.get(index);
+                int compare = Double.compare(distanceMap.get(storeId), lastDistance);
+
+                if (compare > 0 || (compare == 0 && storeId > lastStoreId)) {
+                    break;
+                }
+
+                index++;
+            }
+        }
+
+        int chunkSize = limit * 2;
+
+        while (index < sortedIdList.size()) {
+            List<Integer> chunk = sortedIdList.subList(index, Math.min(index + chunkSize, sortedIdList.size()));
+            index += chunk.size();
+            chunkSize = Math.min(chunkSize * 2, MAX_DISTANCE_CHUNK_SIZE);
+
+            searchDTO.setCandidateStoreIds(new ArrayList<>(chunk));
+
+            Set<Integer> matchedIdSet = new HashSet<>();
+            storeRepository.findBy(new StoreSearchSpecification(searchDTO), q -> q.as(StoreIdProjection.class).all())
+                .forEach(projection -> matchedIdSet.add(projection.getStoreId()));
+
+            for (Integer storeId : chunk) {
+                if (!matchedIdSet.contains(storeId)) {
+                    continue;
+                }
+
+                if (storeIdList.size() == limit) {
+                    return true;   // 한 건이라도 더 있다면 다음 페이지 존재
+                }
+
+                storeIdList.add(storeId);
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 사용자 주소 좌표와 공간/텍스트 인덱스로 검색 조건을 만들어서 searchDTO 에 저장
+     * @param searchDTO 검색 내용
+     * @param optResponse 사용자 주소를 카카오 API 로 변환한 위도/경도 값
+     * @return 공간 인덱스로 구한 후보 가게별 거리(km), 공간 인덱스를 사용하지 못했다면 null
+     */
+    private Map<Integer, Double> applySearchCondition(StoreSearchDTO searchDTO, Optional<KakaoAddressResponseDTO> optResponse) {
+        applyUserLocation(searchDTO, optResponse);
+
+        return applyIndexCondition(searchDTO);
+    }
+
+    /**
+     * 사용자 주소 좌표와 검색 반경을 searchDTO 에 저장 (인덱스 후보는 초기화)
+     * @param searchDTO 검색 내용
+     * @param optResponse 사용자 주소를 카카오 API 로 변환한 위도/경도 값
+     */
+    private void applyUserLocation(StoreSearchDTO searchDTO, Optional<KakaoAddressResponseDTO> optResponse) {
+        BigDecimal userLatitude = null;
+        BigDecimal userLongitude = null;
+
+        if (optResponse.isPresent()) {
+            KakaoAddressResponseDTO responseDto = optResponse.get();
+            String latitudeStr = responseDto.getDocuments().get(0).getY();
+            String longitudeStr = responseDto.getDocuments().get(0).getX();
+
+            userLatitude  = new BigDecimal(latitudeStr).setScale(7, RoundingMode.DOWN);   // 소수점 7자리 까지만
+            userLongitude = new BigDecimal(longitudeStr).setScale(7, RoundingMode.DOWN);   // 소수점 7자리 까지만
+        } else {
+            log.warn("카카오 맵 API 호출 실패. 가게 검색시 반경 필터링 하지 않음");
+        }
+
+        log.info("사용자 좌표) " + userLatitude + ", " + userLongitude);
+
+        // searchDTO 에 사용자 좌표 저장
+        searchDTO.setUserLatitude(userLatitude);
+        searchDTO.setUserLongitude(userLongitude);
+        searchDTO.setRadiusKm(searchRadiusKm);
+        searchDTO.setCandidateStoreIds(null);
+        searchDTO.setGeoFiltered(false);
+        searchDTO.setTextFiltered(false);
+        searchDTO.setExcludedStoreIds(null);
+    }
+
+    /**
+     * searchDTO 에 저장된 사용자 좌표, 검색어, 영업중 여부로 공간/텍스트/영업시간 인덱스 후보 가게를 구해서 searchDTO 에 저장
+     * @param searchDTO 검색 내용 (applyUserLocation 으로 사용자 좌표가 저장된 상태)
+     * @return 공간 인덱스로 구한 후보 가게별 거리(km), 공간 인덱스를 사용하지 못했다면 null
+     */
+    private Map<Integer, Double> applyIndexCondition(StoreSearchDTO searchDTO) {
+        BigDecimal userLatitude = searchDTO.getUserLatitude();
+        BigDecimal userLongitude = searchDTO.getUserLongitude();
+
+        List<Integer> candidateStoreIds = null;
+        Map<Integer, Double> distanceMap = null;
+
+        // 공간 인덱스가 준비되어 있다면 반경 내 후보 가게 아이디를 먼저 뽑아서 DB 는 아이디로만 필터링하도록 함
+        if (userLatitude != null && userLongitude != null && storeGeoIndexService.isReady()) {
+            distanceMap = storeGeoIndexService.findStoreIdsWithin(
+                userLatitude.doubleValue(), userLongitude.doubleValue(), searchRadiusKm);
+
+            candidateStoreIds = new ArrayList<>(distanceMap.keySet());
+            searchDTO.setGeoFiltered(true);
+        }
+
+        // 텍스트 인덱스가 준비되어 있다면 검색어에 해당하는 가게 아이디를 뽑아서 LIKE 검색을 대신함
+        if (StringUtils.isNotBlank(searchDTO.getSearchText()) && storeTextIndexService.isReady()) {
+            Set<Integer> textStoreIdSet = storeTextIndexService.search(searchDTO.getSearchText());
+
+            candidateStoreIds = candidateStoreIds == null
+                ? new ArrayList<>(textStoreIdSet)
+                : candidateStoreIds.stream().filter(textStoreIdSet::contains).toList();
+            searchDTO.setTextFiltered(true);
+        }
+
+        // 영업중인 가게만 검색한다면 영업시간 비트맵으로 닫힌 가게를 미리 제외
+        if (searchDTO.isOpenNow() && storeHourBitmapService.isReady()) {
+            LocalDateTime now = LocalDateTime.now();
+
+            if (candidateStoreIds != null) {
+                candidateStoreIds = storeHourBitmapService.filterOpen(candidateStoreIds, now);
+            } else {
+                searchDTO.setExcludedStoreIds(storeHourBitmapService.getClosedStoreIdList(now));
+            }
+        }
+
+        searchDTO.setCandidateStoreIds(candidateStoreIds);
+
+        return distanceMap;
     }
 
     /**
@@ -0,0 +1,294 @@
+package it.korea.app_bmpc.store.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import it.korea.app_bmpc.menu.repository.MenuRepository;
+import it.korea.app_bmpc.store.dto.StoreNameProjection;
+import it.korea.app_bmpc.store.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가게명과 (삭제되지 않은) 메뉴명을 글자 단위 n-gram 으로 쪼개서 들고 있는 역색인(inverted index)
+ * 한글은 음절 하나가 의미 단위에 가깝기 때문에 형태소 분석 없이 1-gram, 2-gram 만으로 부분 일치 검색을 처리한다.
+ * 띄어쓰기는 사람마다 달라서 공백은 무시하고 비교한다.
+ * 다른 서버에서 변경된 가게명/메뉴명은 이벤트가 오지 않으므로 주기적으로 DB 와 비교해서 달라진 가게만 다시 색인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreTextIndexService {
+
+    private final StoreRepository storeRepository;
+    private final MenuRepository menuRepository;
+
+    private final Map<String, Set<Integer>> gramMap = new ConcurrentHashMap<>();    // n-gram -> 가게 아이디 목록
+    private final Map<Integer, List<String>> textMap = new ConcurrentHashMap<>();   // 가게 아이디 -> 정규화된 가게명/메뉴명 목록
+
+    @Value("${store.index.reconcile-interval-ms:60000}")
+    private long reconcileIntervalMs;   // DB 와 다시 맞추는 주기(ms)
+
+    private volatile boolean ready = false;   // 인덱스 초기화 완료 여부
+    private volatile long lastSyncTime = 0;   // 마지막으로 DB 와 맞춘 시간(ms)
+
+    /**
+     * 서버 기동시, 그리고 주기적으로 DB 의 가게명/메뉴명과 인덱스를 비교해서 달라진 가게만 다시 색인
+     * (다른 서버에서 등록/수정/삭제된 가게, 메뉴 반영)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${store.index.reconcile-interval-ms:60000}",
+        fixedDelayString = "${store.index.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        try {
+            Map<Integer, List<String>> nameMap = new HashMap<>();
+
+            for (StoreNameProjection store : storeRepository.findAllActiveName()) {
+                nameMap.computeIfAbsent(store.getStoreId(), key -> new ArrayList<>()).add(store.getName());
+            }
+
+            for (StoreNameProjection menu : menuRepository.findAllActiveMenuName()) {
+                List<String> nameList = nameMap.get(menu.getStoreId());
+
+                if (nameList != null) {   // 삭제된 가게의 메뉴는 제외
+                    nameList.add(menu.getName());
+                }
+            }
+
+            int changedCount = 0;
+
+            for (Map.Entry<Integer, List<String>> entry : nameMap.entrySet()) {
+                if (!toTextList(entry.getValue()).equals(textMap.get(entry.getKey()))) {
+                    put(entry.getKey(), entry.getValue());
+                    changedCount++;
+                }
+            }
+
+            for (Integer storeId : new ArrayList<>(textMap.keySet())) {
+                if (!nameMap.containsKey(storeId)) {
+                    remove(storeId);
+                    changedCount++;
+                }
+            }
+
+            lastSyncTime = System.currentTimeMillis();
+
+            if (!ready) {
+                ready = true;
+                log.info("가게 텍스트 인덱스 생성 완료. 가게 수: {}, n-gram 수: {}", textMap.size(), gramMap.size());
+            } else if (changedCount > 0) {
+                log.info("가게 텍스트 인덱스 동기화 완료. 변경된 가게 수: {}", changedCount);
+            }
+        } catch (Exception e) {
+            log.error("가게 텍스트 인덱스 동기화 중 오류 발생. 오래되면 검색어 필터링은 DB 로 처리됨. {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 인덱스 사용 가능 여부
+     * 동기화가 주기의 3배 넘게 밀렸다면 다른 서버의 변경이 빠져있을 수 있으므로 사용하지 않는다.
+     * @return
+     */
+    public boolean isReady() {
+        return ready && System.currentTimeMillis() - lastSyncTime <= reconcileIntervalMs * 3;
+    }
+
+    /**
+     * 가게 한 건의 가게명/메뉴명을 DB 에서 다시 읽어서 인덱스 갱신
+     * 삭제된 가게는 인덱스에서 제거한다.
+     * @param storeId 가게 아이디
+     * @return 다시 읽어온 가게명/메뉴명 목록 (삭제된 가게면 빈 목록)
+     */
+    public List<String> refresh(int storeId) {
+        List<String> nameList = new ArrayList<>();
+
+        storeRepository.findActiveNameByStoreId(storeId)
+            .ifPresentOrElse(store -> {
+                nameList.add(store.getName());
+
+                for (StoreNameProjection menu : menuRepository.findActiveMenuNameByStoreId(storeId)) {
+                    nameList.add(menu.getName());
+                }
+
+                put(storeId, nameList);
+            }, () -> remove(storeId));
+
+        return nameList;
+    }
+
+    /**
+     * 가게명/메뉴명 등록 (이미 있으면 교체)
+     * @param storeId 가게 아이디
+     * @param nameList 가게명, 메뉴명 목록
+     */
+    public synchronized void put(int storeId, List<String> nameList) {
+        remove(storeId);
+
+        List<String> textList = toTextList(nameList);
+
+        textMap.put(storeId, textList);
+
+        for (String text : textList) {
+            for (String gram : toGrams(text)) {
+                gramMap.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(storeId);
+            }
+        }
+    }
+
+    /**
+     * 가게 제거
+     * @param storeId 가게 아이디
+     */
+    public synchronized void remove(int storeId) {
+        List<String> textList = textMap.remove(storeId);
+
+        if (textList == null) {
+            return;
+        }
+
+        for (String text : textList) {
+            for (String gram : toGrams(text)) {
+                Set<Integer> storeIdSet = gramMap.get(gram);
+
+                if (storeIdSet != null) {
+                    storeIdSet.remove(storeId);
+
+                    if (storeIdSet.isEmpty()) {
+                        gramMap.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 검색어가 가게명 또는 메뉴명에 포함된 가게 아이디 가져오기
+     * n-gram 목록을 교집합해서 후보를 줄이고, 실제 포함 여부를 한번 더 확인한다.
+     * @param searchText 검색어
+     * @return
+     */
+    public Set<Integer> search(String searchText) {
+        String keyword = normalize(searchText);
+
+        if (keyword.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        // 검색어의 n-gram 별 가게 목록을 작은 것부터 교집합
+        List<Set<Integer>> postingList = new ArrayList<>();
+
+        for (String gram : toQueryGrams(keyword)) {
+            Set<Integer> storeIdSet = gramMap.get(gram);
+
+            if (storeIdSet == null) {
+                return new HashSet<>();   // 하나라도 없는 n-gram 이 있으면 일치하는 가게 없음
+            }
+
+            postingList.add(storeIdSet);
+        }
+
+        postingList.sort(Comparator.comparingInt(Set::size));
+
+        Set<Integer> resultSet = new HashSet<>(postingList.get(0));
+
+        for (int i = 1; i < postingList.size() && !resultSet.isEmpty(); i++) {
+            resultSet.retainAll(postingList.get(i));
+        }
+
+        // n-gram 이 모두 있어도 순서가 다를 수 있으므로 실제로 포함하는지 확인
+        resultSet.removeIf(storeId -> {
+            List<String> textList = textMap.get(storeId);
+            return textList == null || textList.stream().noneMatch(text -> text.contains(keyword));
+        });
+
+        return resultSet;
+    }
+
+    /**
+     * 가게의 정규화된 가게명/메뉴명 목록 가져오기 (첫번째가 가게명)
+     * @param storeId 가게 아이디
+     * @return
+     */
+    public List<String> getTextList(int storeId) {
+        return textMap.getOrDefault(storeId, List.of());
+    }
+
+    /**
+     * 비교용 정규화 (소문자 변환, 공백 제거)
+     * @param text
+     * @return
+     */
+    public String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        return text.toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+    }
+
+    /**
+     * 색인할 정규화된 가게명/메뉴명 목록 (빈 문자열, 중복 제외)
+     * @param nameList 가게명, 메뉴명 목록
+     * @return
+     */
+    private List<String> toTextList(List<String> nameList) {
+        return nameList.stream()
+            .map(this::normalize)
+            .filter(text -> !text.isEmpty())
+            .distinct()
+            .toList();
+    }
+
+    /**
+     * 색인할 n-gram 목록 (1-gram + 2-gram)
+     * @param text 정규화된 문자열
+     * @return
+     */
+    private Set<String> toGrams(String text) {
+        Set<String> gramSet = new HashSet<>();
+
+        for (int i = 0; i < text.length(); i++) {
+            gramSet.add(text.substring(i, i + 1));
+
+            if (i + 1 < text.length()) {
+                gramSet.add(text.substring(i, i + 2));
+            }
+        }
+
+        return gramSet;
+    }
+
+    /**
+     * 검색용 n-gram 목록 (한 글자면 1-gram, 그 이상은 2-gram)
+     * @param keyword 정규화된 검색어
+     * @return
+     */
+    private Set<String> toQueryGrams(String keyword) {
+        Set<String> gramSet = new LinkedHashSet<>();
+
+        if (keyword.length() == 1) {
+            gramSet.add(keyword);
+            return gramSet;
+        }
+
+        for (int i = 0; i + 1 < keyword.length(); i++) {
+            gramSet.add(keyword.substring(i, i + 2));
+        }
+
+        return gramSet;
+    }
+}
@@ -1,5 +1,7 @@
 package it.korea.app_bmpc.user.entity;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import it.korea.app_bmpc.common.entity.BaseEntity;
 import it.korea.app_bmpc.store.entity.StoreEntity;
 import jakarta.persistence.Column;
@@ -16,6 +18,7 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
+@DynamicUpdate   // 바뀐 컬럼만 update (보유금/수익은 DB 에서 바로 증감하므로 다른 정보 저장시 덮어쓰지 않도록)
 @Table(name = "bmpc_users")
 public class UserEntity extends BaseEntity {
 
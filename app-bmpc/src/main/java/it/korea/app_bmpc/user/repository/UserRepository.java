@@ -8,6 +8,7 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -49,4 +50,24 @@ public interface UserRepository extends JpaRepository<UserEntity, String>, JpaSp
     Optional<UserEntity> findByStore_storeId(int storeId);
 
     Optional<UserEntity> findByEmail(String email);
+
+    // 보유금 증가 (조회 후 수정하지 않고 DB 에서 바로 더함)
+    @Modifying
+    @Query("update UserEntity u set u.deposit = u.deposit + :amount where u.userId = :userId")
+    int creditDeposit(@Param("userId") String userId, @Param("amount") int amount);
+
+    // 주문 취소 환불 (탈퇴한 사용자는 환불하지 않음, 0 이면 탈퇴한 사용자)
+    @Modifying
+    @Query("update UserEntity u set u.deposit = u.deposit + :amount where u.userId = :userId and u.delYn = 'N'")
+    int refundDeposit(@Param("userId") String userId, @Param("amount") int amount);
+
+    // 보유금 차감 (잔액이 충분할 때만 차감, 0 이면 잔액 부족)
+    @Modifying
+    @Query("update UserEntity u set u.deposit = u.deposit - :amount where u.userId = :userId and u.deposit >= :amount")
+    int debitDeposit(@Param("userId") String userId, @Param("amount") int amount);
+
+    // 점주 수익 증가 (조회 후 수정하지 않고 DB 에서 바로 더함)
+    @Modifying
+    @Query("update UserEntity u set u.balance = u.balance + :amount where u.userId = :userId")
+    int creditBalance(@Param("userId") String userId, @Param("amount") int amount);
 }
@@ -87,11 +87,8 @@ public class UserService {
             throw new RuntimeException("충전 금액은 0보다 커야 합니다.");
         }
 
-        // 기존 보유금 + 충전 금액
-        int newDeposit = userEntity.getDeposit() + request.getDeposit();
-        userEntity.setDeposit(newDeposit);
-
-        userRepository.save(userEntity);
+        // 기존 보유금 + 충전 금액 (조회한 값에 더해서 저장하지 않고 DB 에서 바로 더함)
+        userRepository.creditDeposit(userEntity.getUserId(), request.getDeposit());
     }
 
     /**
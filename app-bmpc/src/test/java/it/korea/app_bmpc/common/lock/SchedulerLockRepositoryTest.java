@@ -0,0 +1,78 @@
+package it.korea.app_bmpc.common.lock;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * 스케줄러 잠금 테스트 (H2 를 MariaDB 모드로 사용)
+ */
+class SchedulerLockRepositoryTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:scheduler_lock;MODE=MariaDB;DB_CLOSE_DELAY=-1", "sa", "");
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("drop table if exists bmpc_scheduler_lock");
+        jdbcTemplate.execute("""
+                create table bmpc_scheduler_lock(
+                   lock_name        varchar(64)     not null,
+                   lock_until       datetime(3)     not null,
+                   locked_at        datetime(3)     not null,
+                   locked_by        varchar(255)    not null,
+                   primary key(lock_name)
+                )
+            """);
+    }
+
+    @Test
+    void onlyOneOwnerGetsLock() {
+        SchedulerLockRepository nodeA = new SchedulerLockRepository(jdbcTemplate);
+        SchedulerLockRepository nodeB = new SchedulerLockRepository(jdbcTemplate);
+        LocalDateTime now = LocalDateTime.now();
+
+        assertTrue(nodeA.tryLock("job", "A", now, now.plusMinutes(1)));
+        assertFalse(nodeB.tryLock("job", "B", now, now.plusMinutes(1)));
+        assertFalse(nodeA.tryLock("job", "A", now, now.plusMinutes(1)));
+    }
+
+    @Test
+    void expiredLockCanBeTaken() {
+        SchedulerLockRepository nodeA = new SchedulerLockRepository(jdbcTemplate);
+        SchedulerLockRepository nodeB = new SchedulerLockRepository(jdbcTemplate);
+        LocalDateTime now = LocalDateTime.now();
+
+        assertTrue(nodeA.tryLock("job", "A", now, now.plusMinutes(1)));
+
+        // A 서버가 죽어서 잠금이 만료된 상황
+        LocalDateTime later = now.plusMinutes(2);
+        assertTrue(nodeB.tryLock("job", "B", later, later.plusMinutes(1)));
+
+        // A 서버는 더 이상 연장할 수 없음
+        assertFalse(nodeA.extend("job", "A", later, later.plusMinutes(5)));
+        assertTrue(nodeB.extend("job", "B", later, later.plusMinutes(5)));
+    }
+
+    @Test
+    void unlockKeepsLockAtLeastFor() {
+        SchedulerLockRepository nodeA = new SchedulerLockRepository(jdbcTemplate);
+        SchedulerLockRepository nodeB = new SchedulerLockRepository(jdbcTemplate);
+        LocalDateTime now = LocalDateTime.now();
+
+        assertTrue(nodeA.tryLock("job", "A", now, now.plusMinutes(10)));
+        nodeA.unlock("job", "A", now.plusSeconds(30));
+
+        assertFalse(nodeB.tryLock("job", "B", now.plusSeconds(10), now.plusMinutes(10)));
+        assertTrue(nodeB.tryLock("job", "B", now.plusSeconds(30), now.plusMinutes(10)));
+    }
+}
@@ -0,0 +1,54 @@
+package it.korea.app_bmpc.order.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import it.korea.app_bmpc.order.scheduler.OrderCancelScheduler.PendingOrder;
+
+/**
+ * 주문 자동 취소 대기열 순서 테스트
+ */
+class PendingOrderTest {
+
+    @Test
+    void expiredOrdersComeOutInDeadlineOrder() {
+        long now = System.currentTimeMillis();
+        DelayQueue<PendingOrder> queue = new DelayQueue<>();
+
+        queue.offer(new PendingOrder(3, now + 60000));   // 아직 취소 시각이 아님
+        queue.offer(new PendingOrder(2, now - 1000));
+        queue.offer(new PendingOrder(1, now - 2000));
+
+        assertEquals(1, queue.poll().getOrderId());
+        assertEquals(2, queue.poll().getOrderId());
+        assertNull(queue.poll());   // 취소 시각이 되지 않은 주문은 꺼낼 수 없음
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void delayIsTimeLeftUntilDeadline() {
+        long now = System.currentTimeMillis();
+
+        long delay = new PendingOrder(1, now + 60000).getDelay(TimeUnit.SECONDS);
+        assertTrue(delay > 55 && delay <= 60);
+
+        assertTrue(new PendingOrder(2, now - 1000).getDelay(TimeUnit.MILLISECONDS) <= 0);
+    }
+
+    @Test
+    void earlierDeadlineComparesFirst() {
+        long now = System.currentTimeMillis();
+
+        PendingOrder earlier = new PendingOrder(1, now + 1000);
+        PendingOrder later = new PendingOrder(2, now + 2000);
+
+        assertTrue(earlier.compareTo(later) < 0);
+        assertTrue(later.compareTo(earlier) > 0);
+    }
+}
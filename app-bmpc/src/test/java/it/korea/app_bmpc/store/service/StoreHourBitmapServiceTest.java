@@ -0,0 +1,102 @@
+package it.korea.app_bmpc.store.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import it.korea.app_bmpc.store.dto.StoreHourProjection;
+import it.korea.app_bmpc.store.repository.StoreRepository;
+
+/**
+ * 영업시간 비트맵 테스트 (2026-10-19 은 월요일)
+ */
+class StoreHourBitmapServiceTest {
+
+    private static final int STORE_ID = 1;
+
+    private StoreRepository storeRepository;
+    private StoreHourBitmapService storeHourBitmapService;
+
+    @BeforeEach
+    void setUp() {
+        storeRepository = mock(StoreRepository.class);
+        storeHourBitmapService = new StoreHourBitmapService(storeRepository);
+    }
+
+    @Test
+    void openOnlyBetweenOpenAndCloseTime() {
+        refresh(hour(1, "10:00", "22:00", "N"));
+
+        assertFalse(storeHourBitmapService.isOpen(STORE_ID, at(19, 9, 59)));
+        assertTrue(storeHourBitmapService.isOpen(STORE_ID, at(19, 10, 0)));
+        assertTrue(storeHourBitmapService.isOpen(STORE_ID, at(19, 22, 0)));   // 마감 시간 포함
+        assertFalse(storeHourBitmapService.isOpen(STORE_ID, at(19, 22, 1)));
+    }
+
+    @Test
+    void dayWithoutRowIsOpen() {
+        refresh(hour(1, "10:00", "22:00", "N"));
+
+        // 화요일은 영업시간이 없으므로 하루 종일 영업중
+        assertTrue(storeHourBitmapService.isOpen(STORE_ID, at(20, 3, 0)));
+        assertTrue(storeHourBitmapService.isOpen(STORE_ID, at(20, 23, 59)));
+    }
+
+    @Test
+    void closedDayIsClosedAllDay() {
+        refresh(hour(3, "10:00", "22:00", "Y"));
+
+        assertFalse(storeHourBitmapService.isOpen(STORE_ID, at(21, 0, 0)));
+        assertFalse(storeHourBitmapService.isOpen(STORE_ID, at(21, 12, 0)));
+        assertFalse(storeHourBitmapService.isOpen(STORE_ID, at(21, 23, 59)));
+        assertTrue(storeHourBitmapService.isOpen(STORE_ID, at(22, 12, 0)));
+    }
+
+    @Test
+    void firstAndLastMinuteOfWeek() {
+        refresh(hour(1, "00:00", "01:03", "N"), hour(7, "18:00", "23:59", "N"));
+
+        assertTrue(storeHourBitmapService.isOpen(STORE_ID, at(19, 0, 0)));     // 0분 (첫 비트)
+        assertTrue(storeHourBitmapService.isOpen(STORE_ID, at(19, 1, 3)));     // 63분 (첫 long 의 마지막 비트)
+        assertFalse(storeHourBitmapService.isOpen(STORE_ID, at(19, 1, 4)));    // 64분 (두 번째 long 의 첫 비트)
+        assertTrue(storeHourBitmapService.isOpen(STORE_ID, at(25, 23, 59)));   // 10079분 (마지막 비트)
+        assertFalse(storeHourBitmapService.isOpen(STORE_ID, at(25, 17, 59)));
+    }
+
+    @Test
+    void storeWithoutHourRowsIsOpen() {
+        refresh(hour(1, "10:00", "22:00", "N"));
+        assertFalse(storeHourBitmapService.isOpen(STORE_ID, at(19, 9, 0)));
+
+        // 영업시간이 모두 지워지면 비트맵에서 빠지고 영업중으로 봄
+        refresh();
+        assertTrue(storeHourBitmapService.isOpen(STORE_ID, at(19, 9, 0)));
+    }
+
+    private void refresh(StoreHourProjection... hours) {
+        when(storeRepository.findActiveHourByStoreId(STORE_ID)).thenReturn(List.of(hours));
+        storeHourBitmapService.refresh(STORE_ID);
+    }
+
+    private LocalDateTime at(int day, int hour, int minute) {
+        return LocalDateTime.of(2026, 10, day, hour, minute);
+    }
+
+    private StoreHourProjection hour(int dayOfWeek, String openTime, String closeTime, String closeYn) {
+        return new StoreHourProjection() {
+            public Integer getStoreId() { return STORE_ID; }
+            public Integer getDayOfWeek() { return dayOfWeek; }
+            public LocalTime getOpenTime() { return LocalTime.parse(openTime); }
+            public LocalTime getCloseTime() { return LocalTime.parse(closeTime); }
+            public String getCloseYn() { return closeYn; }
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package it.korea.app_bmpc.store.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 추천순 힙 테스트
+ */
+class StoreRankHeapTest {
+
+    @Test
+    void keepsTopKInDescendingOrder() {
+        StoreRankHeap heap = new StoreRankHeap(3);
+
+        heap.offer(1, 0.10);
+        heap.offer(2, 0.90);
+        heap.offer(3, 0.50);
+        heap.offer(4, 0.70);
+        heap.offer(5, 0.20);
+        heap.offer(6, 0.95);
+
+        assertEquals(3, heap.size());
+        assertArrayEquals(new int[] {6, 2, 4}, heap.drainDescending());
+        assertEquals(0, heap.size());
+    }
+
+    @Test
+    void sameScorePutsLargerStoreIdFirst() {
+        StoreRankHeap heap = new StoreRankHeap(2);
+
+        heap.offer(10, 0.5);
+        heap.offer(30, 0.5);
+        heap.offer(20, 0.5);
+
+        assertArrayEquals(new int[] {30, 20}, heap.drainDescending());
+    }
+
+    @Test
+    void returnsAllWhenFewerThanCapacity() {
+        StoreRankHeap heap = new StoreRankHeap(5);
+
+        heap.offer(1, 0.3);
+        heap.offer(2, 0.8);
+
+        assertArrayEquals(new int[] {2, 1}, heap.drainDescending());
+    }
+
+    @Test
+    void zeroCapacityKeepsNothing() {
+        StoreRankHeap heap = new StoreRankHeap(0);
+
+        heap.offer(1, 1.0);
+
+        assertArrayEquals(new int[0], heap.drainDescending());
+    }
+}